@@ -0,0 +1,12 @@
+-- chat_message.created_at ("yyyy-MM-dd HH:mm", Asia/Seoul 문자열) 을 created_at_millis (epoch millis) 로 옮김
+-- 새 버전을 배포하기 전에 한 번 실행. created_at 이 NOT NULL 로 남아 있으면 ChatMessageWriter 의 insert 가 모두 실패함
+alter table chat_message add column created_at_millis bigint;
+
+update chat_message
+set created_at_millis = unix_timestamp(convert_tz(str_to_date(created_at, '%Y-%m-%d %H:%i'), '+09:00', @@session.time_zone)) * 1000;
+
+alter table chat_message
+    modify created_at_millis bigint not null,
+    drop column created_at;
+
+create index idx_chat_message_room_id_created_at_millis on chat_message (room_id, created_at_millis);
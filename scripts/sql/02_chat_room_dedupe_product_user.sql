@@ -0,0 +1,29 @@
+-- 채팅방 생성을 insert ... on duplicate key update 로 바꾸면서 (product_id, user_id) 에 unique key 를 둠
+-- 같은 상품에 같은 사용자가 만든 방이 이미 여러 개면 unique key 를 만들 수 없으므로 id 가 가장 작은 방만 남기고 정리
+-- 03(마지막 메세지 채우기) 보다 먼저 실행
+create temporary table chat_room_duplicate as
+select r.id as duplicate_id, k.keep_id, r.is_deleted
+from chat_room r
+    join (select product_id, user_id, min(id) as keep_id
+          from chat_room
+          group by product_id, user_id
+          having count(*) > 1) k on k.product_id = r.product_id and k.user_id = r.user_id
+where r.id <> k.keep_id;
+
+-- 지울 방 중에 살아 있는 방이 있으면 남기는 방도 살려둠
+update chat_room r
+    join chat_room_duplicate d on d.keep_id = r.id and d.is_deleted = false
+set r.is_deleted = false;
+
+-- 지울 방의 메세지는 남기는 방으로 옮김
+update chat_message m
+    join chat_room_duplicate d on d.duplicate_id = m.room_id
+set m.room_id = d.keep_id;
+
+delete r
+from chat_room r
+    join chat_room_duplicate d on d.duplicate_id = r.id;
+
+drop temporary table chat_room_duplicate;
+
+alter table chat_room add constraint uk_chat_room_product_id_user_id unique (product_id, user_id);
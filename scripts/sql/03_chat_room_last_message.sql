@@ -0,0 +1,18 @@
+-- 채팅방 목록에서 chat_message 를 집계하지 않도록 chat_room 에 마지막 메세지 정보를 둠 (ChatMessageWriter 가 갱신)
+-- 기존 방은 다음 메세지가 올 때까지 비어 있으므로 한 번 채워 넣음
+-- 01(created_at_millis), 02(중복 방 정리) 를 실행한 뒤에 실행
+alter table chat_room
+    add column last_message_id bigint,
+    add column last_message_preview varchar(100),
+    add column last_message_at datetime(6);
+
+create index idx_chat_room_user_id_last_message_at on chat_room (user_id, last_message_at);
+create index idx_chat_room_owner_id_last_message_at on chat_room (owner_id, last_message_at);
+
+-- last_message_at 은 ChatMessageWriter 와 같이 Asia/Seoul 시각으로 저장
+update chat_room r
+    join (select room_id, max(id) as last_id from chat_message group by room_id) last on last.room_id = r.id
+    join chat_message m on m.id = last.last_id
+set r.last_message_id      = m.id,
+    r.last_message_preview = left(m.content, 100),
+    r.last_message_at      = convert_tz(from_unixtime(m.created_at_millis div 1000), @@session.time_zone, '+09:00');
@@ -0,0 +1,6 @@
+-- /chat/search 가 쓰는 ngram FULLTEXT 인덱스 (MySQL 5.7+)
+-- 처음 만들 때 chat_message 를 다시 만들면서 쓰기를 막으므로 사용자가 적은 시간에 실행
+-- 인덱스가 없으면 검색 요청이 "Can't find FULLTEXT index matching the column list" 로 실패함
+alter table chat_message
+    add fulltext index ft_chat_message_content (content) with parser ngram,
+    algorithm = inplace, lock = shared;
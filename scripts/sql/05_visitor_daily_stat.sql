@@ -0,0 +1,8 @@
+-- VisitorCountScheduler 가 Redis 의 시간별 방문 수와 순 방문자 수를 하루 단위로 합쳐 저장하는 테이블
+create table visitor_daily_stat (
+    id                   bigint auto_increment primary key,
+    stat_date            date   not null,
+    visit_count          bigint not null,
+    unique_visitor_count bigint not null,
+    constraint uk_visitor_daily_stat_stat_date unique (stat_date)
+);
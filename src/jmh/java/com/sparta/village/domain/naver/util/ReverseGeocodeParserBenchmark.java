@@ -0,0 +1,72 @@
+package com.sparta.village.domain.naver.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//reverse geocode 응답 파싱: 이전 정규식 방식(호출마다 컴파일 / 미리 컴파일)과 스트리밍 파서 비교 (./gradlew jmh)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReverseGeocodeParserBenchmark {
+    private static final String AREA1 = "\"area1\":\\s*\\{(?:[^{}]*|\\{(?:[^{}]*|\\{[^}]*\\})*\\})*\"alias\":\\s*\"(.*?)\"";
+    private static final String AREA2 = "\"area2\":\\s*\\{[^}]*\"name\":\\s*\"(.*?)\"";
+    private static final String LAND_NAME = "\"land\":\\s*\\{(?:[^{}]*\\{[^}]*\\})*[^}]*\"name\":\\s*\"(.*?)\"";
+    private static final String LAND_NUMBER = "\"land\":\\s*\\{[^}]*\"number1\":\\s*\"(.*?)\"";
+    private static final String ADDITION = "\"addition0\":\\s*\\{[^}]*\"value\":\\s*\"(.*?)\"";
+    private static final Pattern[] PATTERNS = {
+            Pattern.compile(AREA1), Pattern.compile(AREA2), Pattern.compile(LAND_NAME), Pattern.compile(LAND_NUMBER), Pattern.compile(ADDITION)
+    };
+
+    //네이버 reverse geocode (orders=roadaddr) 응답
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = "{\"status\":{\"code\":0,\"name\":\"ok\",\"message\":\"done\"},\"results\":[{\"name\":\"roadaddr\"," +
+                "\"code\":{\"id\":\"4113510900\",\"type\":\"L\",\"mappingId\":\"02135109\"}," +
+                "\"region\":{\"area0\":{\"name\":\"kr\",\"coords\":{\"center\":{\"crs\":\"\",\"x\":0.0,\"y\":0.0}}}," +
+                "\"area1\":{\"name\":\"경기도\",\"coords\":{\"center\":{\"crs\":\"EPSG:4326\",\"x\":127.550802,\"y\":37.4363177}},\"alias\":\"경기\"}," +
+                "\"area2\":{\"name\":\"성남시 분당구\",\"coords\":{\"center\":{\"crs\":\"EPSG:4326\",\"x\":127.1189255,\"y\":37.3827287}},\"alias\":\"\"}," +
+                "\"area3\":{\"name\":\"정자동\",\"coords\":{\"center\":{\"crs\":\"EPSG:4326\",\"x\":127.1100502,\"y\":37.3664655}},\"alias\":\"\"}," +
+                "\"area4\":{\"name\":\"\",\"coords\":{\"center\":{\"crs\":\"\",\"x\":0.0,\"y\":0.0}},\"alias\":\"\"}}," +
+                "\"land\":{\"type\":\"\",\"number1\":\"6\",\"number2\":\"\"," +
+                "\"addition0\":{\"type\":\"building\",\"value\":\"그린팩토리\"},\"addition1\":{\"type\":\"zipcode\",\"value\":\"13561\"}," +
+                "\"addition2\":{\"type\":\"roadGroupCode\",\"value\":\"414653205024\"},\"addition3\":{\"type\":\"\",\"value\":\"\"}," +
+                "\"addition4\":{\"type\":\"\",\"value\":\"\"},\"name\":\"불정로\",\"coords\":{\"center\":{\"crs\":\"\",\"x\":0.0,\"y\":0.0}}}}]}";
+    }
+
+    //이전 NaverMapService.reverseGeocode 와 같은 방식
+    @Benchmark
+    public String regex() {
+        return findValueByKey(response, AREA1) + " " +
+                findValueByKey(response, AREA2) + " " +
+                findValueByKey(response, LAND_NAME) + " " +
+                findValueByKey(response, LAND_NUMBER) + " " +
+                findValueByKey(response, ADDITION);
+    }
+
+    //컴파일 비용을 뺀 정규식 매칭 비용
+    @Benchmark
+    public String regexPrecompiled() {
+        StringBuilder builder = new StringBuilder();
+        for (Pattern pattern : PATTERNS) {
+            Matcher matcher = pattern.matcher(response);
+            builder.append(matcher.find() ? matcher.group(1) : null).append(' ');
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public String streaming() {
+        return ReverseGeocodeParser.parse(response).toAddress();
+    }
+
+    //이전 NaverMapService.findValueByKey. 호출마다 Pattern 을 컴파일함
+    private static String findValueByKey(String jsonString, String regex) {
+        Matcher matcher = Pattern.compile(regex).matcher(jsonString);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
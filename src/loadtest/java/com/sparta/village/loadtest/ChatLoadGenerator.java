@@ -0,0 +1,197 @@
+package com.sparta.village.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬에서 띄운 서버에 SockJS/STOMP 클라이언트 N개를 붙여서 채팅 처리량을 측정하는 도구.
+ * ./gradlew chatLoadTest -Ploadtest.clients=200 -Ploadtest.rooms=50 -Ploadtest.rate=1000 -Ploadtest.products=1,2,3
+ *
+ * 클라이언트 i 는 방 i % rooms 에 들어가고, 각 방은 products 의 상품과 loadtest.user-prefix + 방번호 사용자로 만들어짐.
+ * 해당 닉네임의 사용자는 미리 DB 에 있어야 함 (/test/login/{nickname} 으로 토큰 발급).
+ * 메세지 내용에 보낸 시각(nanoTime)을 넣고, 같은 방을 구독한 클라이언트가 받은 시각과의 차이로 지연 시간을 기록.
+ */
+public class ChatLoadGenerator {
+    private static final String CONTENT_PREFIX = "lt:";
+
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private final int clients = Integer.getInteger("loadtest.clients", 100);
+    private final int rooms = Integer.getInteger("loadtest.rooms", 10);
+    private final int rate = Integer.getInteger("loadtest.rate", 500); // 초당 전체 메세지 수
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+    private final String userPrefix = System.getProperty("loadtest.user-prefix", "loadtest");
+    private final List<Long> productIds = Arrays.stream(System.getProperty("loadtest.products", "1").split(","))
+            .map(String::trim).map(Long::valueOf).toList();
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    //자동으로 범위를 늘리는 히스토그램이라 1분을 넘는 지연도 기록 중 예외가 나지 않음
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong expected = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        new ChatLoadGenerator().run();
+    }
+
+    private void run() throws Exception {
+        //방마다 첫 번째 클라이언트가 발신자라서 방보다 클라이언트가 적으면 보낼 세션이 없음
+        if (rooms < 1 || clients < rooms) {
+            throw new IllegalArgumentException("loadtest.clients (" + clients + ") must be at least loadtest.rooms (" + rooms + ") and rooms must be positive.");
+        }
+        WebSocketStompClient stompClient = createStompClient();
+
+        //방마다 방장(발신자) 한 명이 방을 만들고 토큰을 받음
+        long[] roomIds = new long[rooms];
+        String[] tokens = new String[rooms];
+        for (int room = 0; room < rooms; room++) {
+            String nickname = userPrefix + room;
+            tokens[room] = login(nickname);
+            roomIds[room] = enterRoom(productIds.get(room % productIds.size()), nickname);
+        }
+
+        int[] subscribers = new int[rooms];
+        List<StompSession> senders = new ArrayList<>();
+        List<StompSession> sessions = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int room = i % rooms;
+            StompSession session = connect(stompClient, tokens[room]);
+            session.subscribe("/sub/chat/room/" + roomIds[room], new LatencyFrameHandler());
+            subscribers[room]++;
+            sessions.add(session);
+            if (i < rooms) {
+                senders.add(session);
+            }
+        }
+        System.out.printf("Connected %d clients to %d rooms. Sending %d msg/s for %ds.%n", clients, rooms, rate, durationSeconds);
+
+        //전체 rate 를 1ms 틱으로 나눠서 발신자들에게 돌아가며 배분
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        double perTick = rate / 1000.0;
+        double[] credit = {0};
+        int[] next = {0};
+        executor.scheduleAtFixedRate(() -> {
+            credit[0] += perTick;
+            while (credit[0] >= 1) {
+                credit[0] -= 1;
+                int room = next[0]++ % rooms;
+                send(senders.get(room), roomIds[room], subscribers[room]);
+            }
+        }, 0, 1, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        executor.shutdownNow();
+        //전송 중인 메세지가 도착할 때까지 대기
+        Thread.sleep(5000);
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        report();
+    }
+
+    private void send(StompSession session, long roomId, int subscriberCount) {
+        try {
+            session.send("/pub/chat/message", Map.of("roomId", roomId, "content", CONTENT_PREFIX + System.nanoTime()));
+            sent.incrementAndGet();
+            expected.addAndGet(subscriberCount);
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private void report() {
+        long lost = expected.get() - received.get();
+        System.out.println("==== chat load test ====");
+        System.out.printf("sent=%d expectedDeliveries=%d received=%d lost=%d (%.3f%%) sendErrors=%d%n",
+                sent.get(), expected.get(), received.get(), lost, expected.get() == 0 ? 0.0 : lost * 100.0 / expected.get(), errors.get());
+        System.out.printf("latency ms p50=%.2f p99=%.2f p999=%.2f max=%.2f%n",
+                toMillis(latency.getValueAtPercentile(50)), toMillis(latency.getValueAtPercentile(99)),
+                toMillis(latency.getValueAtPercentile(99.9)), toMillis(latency.getMaxValue()));
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private WebSocketStompClient createStompClient() {
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        stompClient.setTaskScheduler(scheduler);
+        return stompClient;
+    }
+
+    private String login(String nickname) {
+        ResponseEntity<String> response = restTemplate.postForEntity(baseUrl + "/test/login/" + nickname, null, String.class);
+        String bearerToken = response.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken == null) {
+            throw new IllegalStateException("Login failed for " + nickname);
+        }
+        return bearerToken;
+    }
+
+    private long enterRoom(Long productId, String nickname) throws Exception {
+        ResponseEntity<String> response = restTemplate.postForEntity(baseUrl + "/chat/room/" + productId + "/" + nickname, HttpEntity.EMPTY, String.class);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        return body.get("data").asLong();
+    }
+
+    private StompSession connect(WebSocketStompClient stompClient, String bearerToken) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add(HttpHeaders.AUTHORIZATION, bearerToken);
+        return stompClient.connect(baseUrl + "/ws", new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                errors.incrementAndGet();
+            }
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    private class LatencyFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            String content = ((JsonNode) payload).path("content").asText();
+            if (!content.startsWith(CONTENT_PREFIX)) {
+                return;
+            }
+            long sentAt = Long.parseLong(content.substring(CONTENT_PREFIX.length()));
+            latency.recordValue(Math.max(0, System.nanoTime() - sentAt));
+            received.incrementAndGet();
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.sparta.village.domain.chat.controller;
 
 import com.sparta.village.domain.chat.dto.ChatMessageDto;
+import com.sparta.village.domain.chat.dto.ChatReadDto;
+import com.sparta.village.domain.chat.dto.ChatTypingDto;
 import com.sparta.village.domain.chat.service.ChatService;
+import com.sparta.village.global.exception.CustomException;
+import com.sparta.village.global.exception.ErrorCode;
 import com.sparta.village.global.exception.ResponseMessage;
 import com.sparta.village.global.security.UserDetailsImpl;
+import com.sparta.village.global.websocket.ChatPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
+
 @RestController
 @RequiredArgsConstructor
 public class ChatController {
@@ -21,13 +29,71 @@ public class ChatController {
     }
 
     @GetMapping("/chat/room")
-    public ResponseEntity<ResponseMessage> findMessageHistory(@RequestParam(value = "roomId", required = false) Long roomId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return chatService.findMessageHistory(roomId, userDetails.getUser());
+    public ResponseEntity<ResponseMessage> findMessageHistory(@RequestParam(value = "roomId", required = false) Long roomId,
+                                                              @RequestParam(value = "size", defaultValue = "30") int size,
+                                                              @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (size < 1 || size > 100) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER);
+        }
+        return chatService.findMessageHistory(roomId, size, userDetails.getUserReference());
+    }
+
+    @GetMapping("/chat/room/{roomId}/messages")
+    public ResponseEntity<ResponseMessage> findMessagePage(@PathVariable Long roomId,
+                                                           @RequestParam(value = "beforeMessageId", required = false) Long beforeMessageId,
+                                                           @RequestParam(value = "size", defaultValue = "30") int size,
+                                                           @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (size < 1 || size > 100) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER);
+        }
+        return chatService.findMessagePage(roomId, beforeMessageId, size, userDetails.getUserReference());
+    }
+
+    @GetMapping("/chat/search")
+    public ResponseEntity<ResponseMessage> searchMessages(@RequestParam("query") String query,
+                                                          @RequestParam(value = "beforeMessageId", required = false) Long beforeMessageId,
+                                                          @RequestParam(value = "size", defaultValue = "20") int size,
+                                                          @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (size < 1 || size > 100) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER);
+        }
+        return chatService.searchMessages(query, beforeMessageId, size, userDetails.getUserReference());
     }
 
     @MessageMapping(value = "/chat/message")
-    public void message(ChatMessageDto message) {
-        chatService.saveMessage(message);
+    public void message(ChatMessageDto message, Principal principal, @Header("simpSessionId") String sessionId) {
+        chatService.saveMessage(message, (ChatPrincipal) principal);
+        chatService.touchPresence(sessionId);
+    }
+
+    @MessageMapping(value = "/chat/typing")
+    public void typing(ChatTypingDto typing, @Header("simpSessionId") String sessionId) {
+        chatService.typing(sessionId, typing.getRoomId());
+    }
+
+    @MessageMapping(value = "/chat/heartbeat")
+    public void heartbeat(@Header("simpSessionId") String sessionId) {
+        chatService.touchPresence(sessionId);
+    }
+
+    @GetMapping("/chat/room/{roomId}/presence")
+    public ResponseEntity<ResponseMessage> getOnlineUsers(@PathVariable Long roomId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return chatService.getOnlineUsers(roomId, userDetails.getUserId());
+    }
+
+    @PostMapping("/chat/room/{roomId}/read")
+    public ResponseEntity<ResponseMessage> markAsRead(@PathVariable Long roomId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return chatService.markAsRead(roomId, userDetails.getUserId());
+    }
+
+    @MessageMapping(value = "/chat/read")
+    public void read(ChatReadDto read, Principal principal) {
+        chatService.markAsRead(read.getRoomId(), ((ChatPrincipal) principal).getUserId());
+    }
+
+    @GetMapping("/chat/unread")
+    public ResponseEntity<ResponseMessage> getTotalUnreadCount(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return chatService.getTotalUnreadCount(userDetails.getUserId());
     }
 
     @DeleteMapping("/chat/room/{roomId}")
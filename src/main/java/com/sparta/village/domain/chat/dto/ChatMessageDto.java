@@ -11,6 +11,5 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ChatMessageDto {
     private Long roomId; // 방번호
-    private String sender; // nickname
     private String content; // 메시지
 }
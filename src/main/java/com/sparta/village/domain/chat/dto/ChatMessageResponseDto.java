@@ -14,4 +14,6 @@ public class ChatMessageResponseDto {
     private String sender; // nickname
     private String content; // 메시지
     private String createdAt;
+    private Long messageId;
+    private Long sentAt; // epoch millis
 }
@@ -0,0 +1,14 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadDto {
+    private Long roomId; // 읽음 처리할 방번호
+}
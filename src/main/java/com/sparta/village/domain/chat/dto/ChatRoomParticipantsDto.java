@@ -0,0 +1,19 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChatRoomParticipantsDto {
+    private Long userId; // 빌리는 사람
+    private Long ownerId; // 상품 주인
+
+    public boolean contains(Long id) {
+        return userId.equals(id) || ownerId.equals(id);
+    }
+
+    public Long otherThan(Long id) {
+        return userId.equals(id) ? ownerId : userId;
+    }
+}
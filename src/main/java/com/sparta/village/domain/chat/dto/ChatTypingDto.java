@@ -0,0 +1,14 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatTypingDto {
+    private Long roomId; // 입력 중인 방번호
+}
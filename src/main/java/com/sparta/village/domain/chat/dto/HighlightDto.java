@@ -0,0 +1,13 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HighlightDto {
+    private int start; // 포함
+    private int end; // 미포함
+}
@@ -12,6 +12,8 @@ public class MessageListDto {
     private String content;
     private Long roomId;
     private String createdAt;
+    private Long messageId;
+    private Long sentAt; // epoch millis
 
     @Override
     public boolean equals(Object o) {
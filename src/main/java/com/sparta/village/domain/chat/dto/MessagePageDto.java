@@ -0,0 +1,16 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagePageDto {
+    private List<MessageListDto> messageList;
+    private Long nextCursor; // 다음 페이지 조회 시 beforeMessageId로 사용
+    private boolean hasNext;
+}
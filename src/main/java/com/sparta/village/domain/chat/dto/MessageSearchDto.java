@@ -0,0 +1,20 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchDto {
+    private Long messageId;
+    private Long roomId;
+    private String sender;
+    private String content;
+    private String createdAt;
+    private Long sentAt; // epoch millis
+    private List<HighlightDto> highlights; // content 안에서 검색어가 나온 위치
+}
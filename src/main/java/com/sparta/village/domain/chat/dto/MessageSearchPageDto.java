@@ -0,0 +1,16 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchPageDto {
+    private List<MessageSearchDto> messageList;
+    private Long nextCursor; // 다음 페이지 요청 시 beforeMessageId 로 사용
+    private boolean hasNext;
+}
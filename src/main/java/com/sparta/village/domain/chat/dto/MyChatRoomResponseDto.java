@@ -12,5 +12,6 @@ import java.util.List;
 public class MyChatRoomResponseDto {
     private List<MessageListDto> messageList;
     private List<RoomListDto> roomList;
+    private boolean hasNext; // 더 이전 메세지가 있는지
 
 }
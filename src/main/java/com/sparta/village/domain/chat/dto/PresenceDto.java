@@ -0,0 +1,15 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDto {
+    private Long roomId;
+    private Long userId;
+    private String nickname;
+    private boolean online;
+}
@@ -3,6 +3,7 @@ package com.sparta.village.domain.chat.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
 @NoArgsConstructor
@@ -13,6 +14,8 @@ public class RoomListDto {
     private String profile;
     private String lastMessage;
     private boolean target;
+    @Setter
+    private long unreadCount; // Redis 에서 채움
 
     @Override
     public boolean equals(Object o) {
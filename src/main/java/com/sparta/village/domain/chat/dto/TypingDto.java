@@ -0,0 +1,14 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingDto {
+    private Long roomId;
+    private Long userId;
+    private String nickname;
+}
@@ -0,0 +1,14 @@
+package com.sparta.village.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountDto {
+    private Long roomId;
+    private long unreadCount; // 해당 방의 안 읽은 메세지 수
+    private long totalUnreadCount; // 전체 안 읽은 메세지 수 (뱃지)
+}
@@ -12,10 +12,6 @@ import org.hibernate.annotations.Where;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.persistence.*;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 
 @Entity
 @Getter
@@ -24,10 +20,14 @@ import java.time.format.DateTimeFormatter;
 @AllArgsConstructor
 @Where(clause = "is_deleted = false")
 @SQLDelete(sql = "update chat_message set is_deleted = true where id = ?")
+@Table(indexes = {
+        @Index(name = "idx_chat_message_room_id_id", columnList = "room_id, id"),
+        @Index(name = "idx_chat_message_room_id_created_at_millis", columnList = "room_id, created_at_millis"),
+        @Index(name = "idx_chat_message_is_deleted_id", columnList = "is_deleted, id")
+})
 public class ChatMessage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    private Long id; // ChatMessageIdGenerator 에서 발급
 
     @ManyToOne
     private User sender;
@@ -39,19 +39,8 @@ public class ChatMessage {
     private ChatRoom room;
 
     @Column(nullable = false)
-    private String createdAt;
+    private Long createdAtMillis; // epoch millis, 화면 표시는 ChatTimeFormatter 또는 클라이언트에서
 
     private boolean isDeleted = Boolean.FALSE;
 
-    @PrePersist
-    private void setCreatedAt() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        this.createdAt = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter);
-    }
-
-    public ChatMessage(User sender, String content, ChatRoom room) {
-        this.sender = sender;
-        this.content = content;
-        this.room = room;
-    }
 }
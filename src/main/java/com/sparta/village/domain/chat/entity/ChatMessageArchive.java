@@ -0,0 +1,33 @@
+package com.sparta.village.domain.chat.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+//오래되었거나 삭제된 채팅 메세지를 옮겨두는 테이블. ChatMessageArchiveScheduler 가 native insert-select 로 채움
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "chat_message_archive", indexes = @Index(name = "idx_chat_message_archive_room_id_id", columnList = "room_id, id"))
+public class ChatMessageArchive {
+    @Id
+    private Long id; // chat_message 의 id 를 그대로 사용
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private Long createdAtMillis;
+
+    private boolean isDeleted;
+
+    private LocalDateTime archivedAt;
+}
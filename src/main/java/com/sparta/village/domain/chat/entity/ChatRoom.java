@@ -9,6 +9,7 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +19,10 @@ import java.util.UUID;
 @AllArgsConstructor
 @Where(clause = "is_deleted = false")
 @SQLDelete(sql = "update chat_room set is_deleted = true where id = ?")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_product_id_user_id", columnNames = {"product_id", "user_id"}), indexes = {
+        @Index(name = "idx_chat_room_user_id_last_message_at", columnList = "user_id, last_message_at"),
+        @Index(name = "idx_chat_room_owner_id_last_message_at", columnList = "owner_id, last_message_at")
+})
 public class ChatRoom {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,10 +42,20 @@ public class ChatRoom {
     private List<ChatMessage> chatMessageList;
     private boolean isDeleted = Boolean.FALSE;
 
+    //채팅방 목록 조회 시 chat_message 를 집계하지 않도록 마지막 메세지 정보를 저장 (ChatMessageWriter 에서 갱신)
+    private Long lastMessageId;
+    @Column(length = 100)
+    private String lastMessagePreview;
+    private LocalDateTime lastMessageAt;
+
     public ChatRoom(Product product, User user, User owner) {
-        this.roomId = UUID.randomUUID().toString().substring(0, 8);
+        this.roomId = newRoomId();
         this.product = product;
         this.user = user;
         this.owner = owner;
     }
+
+    public static String newRoomId() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
 }
@@ -1,16 +1,21 @@
 package com.sparta.village.domain.chat.repository;
 
 import com.sparta.village.domain.chat.dto.MessageListDto;
+import com.sparta.village.domain.chat.dto.MessagePageDto;
+import com.sparta.village.domain.chat.dto.MessageSearchDto;
+import com.sparta.village.domain.chat.dto.MessageSearchPageDto;
 import com.sparta.village.domain.chat.dto.MyChatRoomResponseDto;
 import com.sparta.village.domain.chat.dto.RoomListDto;
+import com.sparta.village.domain.chat.util.ChatSearchQuery;
+import com.sparta.village.domain.chat.util.ChatTimeFormatter;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.math.BigInteger;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Repository
@@ -22,12 +27,11 @@ public class ChatMessageQueryRepository {
         this.em = em;
     }
 
-    public MyChatRoomResponseDto findMessageList(Long roomId, Long userId) {
+    public MyChatRoomResponseDto findMessageList(Long roomId, Long userId, int size) {
         if (roomId == null) {
             String sqlGetRoomId = "select r.id from chat_room r " +
-                    "left join chat_message m on r.id = m.room_id " +
-                    "where r.user_id = :userId or r.owner_id = :userId " +
-                    "order by m.id desc " +
+                    "where (r.user_id = :userId or r.owner_id = :userId) and r.is_deleted = false " +
+                    "order by r.last_message_at desc " +
                     "limit 1";
 
             Query queryGetRoomId = em.createNativeQuery(sqlGetRoomId);
@@ -36,37 +40,20 @@ public class ChatMessageQueryRepository {
             roomId  = resultsGetRoomId.longValue();
         }
 
-        String sqlGetMessageList = "select users.nickname, m.content, chat_room.id, m.created_at " +
-                "from chat_message m " +
-                "left join users on m.sender_id = users.id " +
-                "left join chat_room on m.room_id = chat_room.id " +
-                "where m.room_id = :roomId";
-
-        Query queryMessageList = em.createNativeQuery(sqlGetMessageList);
-        queryMessageList.setParameter("roomId", roomId);
-        List<Object[]> resultsMessageList = queryMessageList.getResultList();
-        List<MessageListDto> messageList = resultsMessageList.stream().map(m -> new MessageListDto((String)m[0], (String)m[1], Long.parseLong(m[2].toString()), changeDateFormat((String)m[3]))).toList();
+        MessagePageDto messagePage = findMessagePage(roomId, null, size);
 
         String sqlGetRoomList = "SELECT r.id, " +
                 "case when r_user.id = :userId then r_owner.nickname else r_user.nickname end as nickname, " +
                 "case when r_user.id = :userId then r_owner.profile else r_user.profile end as profile, " +
-                "m.content, " +
+                "r.last_message_preview, " +
                 "case when r.id = :roomId" +
                 " then true else false end as target " +
                 "FROM chat_room r " +
-                "LEFT JOIN (" +
-                "    SELECT room_id, MAX(id) as max_id " +
-                "    FROM chat_message " +
-                "    GROUP BY room_id " +
-                ") as latest_message " +
-                "ON r.id = latest_message.room_id " +
-                "LEFT JOIN chat_message m ON latest_message.max_id = m.id " +
-                "left join product p on p.id = r.product_id " +
                 "LEFT JOIN users r_user ON r.user_id = r_user.id " +
                 "LEFT JOIN users r_owner ON r.owner_id = r_owner.id " +
                 "WHERE (r.owner_id = :userId or r.user_id = :userId) " +
                 "AND r.is_deleted = false " +
-                "ORDER BY m.id DESC";
+                "ORDER BY r.last_message_at DESC";
 
 
 
@@ -74,15 +61,83 @@ public class ChatMessageQueryRepository {
         queryRoomList.setParameter("userId", userId);
         queryRoomList.setParameter("roomId", roomId);
         List<Object[]> resultsRoomList = queryRoomList.getResultList();
-        List<RoomListDto> roomList = resultsRoomList.stream().map(r -> new RoomListDto(Long.parseLong(r[0].toString()), (String)r[1], (String)r[2], (String)r[3], Integer.parseInt(String.valueOf(r[4])) == 1)).toList();
+        List<RoomListDto> roomList = resultsRoomList.stream().map(r -> new RoomListDto(Long.parseLong(r[0].toString()), (String)r[1], (String)r[2], (String)r[3], Integer.parseInt(String.valueOf(r[4])) == 1, 0L)).toList();
 
-        return new MyChatRoomResponseDto(messageList, roomList);
+        return new MyChatRoomResponseDto(messagePage.getMessageList(), roomList, messagePage.isHasNext());
     }
 
-    private String changeDateFormat(String createdAt) {
-        String[] date = createdAt.split(" ");
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String today = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter);
-        return date[0].equals(today) ? date[1] : date[0];
+    //(room_id, id) 인덱스를 타고 beforeMessageId 이전의 최신 size개만 조회
+    //hot 테이블에서 모자라면 archive 테이블에서 이어서 조회 (archive 로 옮겨진 메세지는 남은 hot 메세지보다 id 가 작음)
+    public MessagePageDto findMessagePage(Long roomId, Long beforeMessageId, int size) {
+        List<Object[]> resultsMessagePage = new ArrayList<>(findMessageRows("chat_message", roomId, beforeMessageId, size + 1));
+        if (resultsMessagePage.size() <= size) {
+            Long archiveCursor = resultsMessagePage.isEmpty() ? beforeMessageId : Long.valueOf(resultsMessagePage.get(resultsMessagePage.size() - 1)[4].toString());
+            resultsMessagePage.addAll(findMessageRows("chat_message_archive", roomId, archiveCursor, size + 1 - resultsMessagePage.size()));
+        }
+
+        boolean hasNext = resultsMessagePage.size() > size;
+        List<Object[]> page = hasNext ? resultsMessagePage.subList(0, size) : resultsMessagePage;
+        LocalDate today = LocalDate.now(ChatTimeFormatter.ZONE_ID);
+        List<MessageListDto> messageList = new ArrayList<>(page.stream().map(m -> {
+            long sentAt = ((Number) m[3]).longValue();
+            return new MessageListDto((String)m[0], (String)m[1], Long.parseLong(m[2].toString()), ChatTimeFormatter.format(sentAt, today), Long.parseLong(m[4].toString()), sentAt);
+        }).toList());
+        Collections.reverse(messageList);
+        Long nextCursor = messageList.isEmpty() ? null : messageList.get(0).getMessageId();
+        return new MessagePageDto(messageList, nextCursor, hasNext);
+    }
+
+    //FULLTEXT(ngram) 인덱스 ft_chat_message_content 로 검색하고, 사용자가 참여한 방의 메세지만 id 역순으로 keyset 페이지 조회
+    //인덱스는 배포 전에 scripts/sql/04_chat_message_fulltext.sql 로 만들어 둠 (없으면 MySQL 이 검색 쿼리를 거부함)
+    public MessageSearchPageDto searchMessages(Long userId, List<String> tokens, Long beforeMessageId, int size) {
+        String sqlSearchMessage = "select m.id, m.room_id, users.nickname, m.content, m.created_at_millis " +
+                "from chat_message m " +
+                "join chat_room r on m.room_id = r.id " +
+                "left join users on m.sender_id = users.id " +
+                "where match(m.content) against (:query in boolean mode) " +
+                "and (r.user_id = :userId or r.owner_id = :userId) " +
+                "and r.is_deleted = false and m.is_deleted = false " +
+                (beforeMessageId == null ? "" : "and m.id < :beforeMessageId ") +
+                "order by m.id desc " +
+                "limit :limit";
+
+        Query querySearchMessage = em.createNativeQuery(sqlSearchMessage);
+        querySearchMessage.setParameter("query", ChatSearchQuery.toBooleanQuery(tokens));
+        querySearchMessage.setParameter("userId", userId);
+        if (beforeMessageId != null) {
+            querySearchMessage.setParameter("beforeMessageId", beforeMessageId);
+        }
+        querySearchMessage.setParameter("limit", size + 1);
+        List<Object[]> resultsSearchMessage = querySearchMessage.getResultList();
+
+        boolean hasNext = resultsSearchMessage.size() > size;
+        List<Object[]> page = hasNext ? resultsSearchMessage.subList(0, size) : resultsSearchMessage;
+        LocalDate today = LocalDate.now(ChatTimeFormatter.ZONE_ID);
+        List<MessageSearchDto> messageList = page.stream().map(m -> {
+            long sentAt = ((Number) m[4]).longValue();
+            String content = (String) m[3];
+            return new MessageSearchDto(Long.parseLong(m[0].toString()), Long.parseLong(m[1].toString()), (String) m[2], content,
+                    ChatTimeFormatter.format(sentAt, today), sentAt, ChatSearchQuery.highlight(content, tokens));
+        }).toList();
+        Long nextCursor = messageList.isEmpty() ? null : messageList.get(messageList.size() - 1).getMessageId();
+        return new MessageSearchPageDto(messageList, nextCursor, hasNext);
+    }
+
+    private List<Object[]> findMessageRows(String table, Long roomId, Long beforeMessageId, int limit) {
+        String sqlGetMessagePage = "select users.nickname, m.content, m.room_id, m.created_at_millis, m.id " +
+                "from " + table + " m " +
+                "left join users on m.sender_id = users.id " +
+                "where m.room_id = :roomId and m.is_deleted = false " +
+                (beforeMessageId == null ? "" : "and m.id < :beforeMessageId ") +
+                "order by m.id desc " +
+                "limit :limit";
+
+        Query queryMessagePage = em.createNativeQuery(sqlGetMessagePage);
+        queryMessagePage.setParameter("roomId", roomId);
+        if (beforeMessageId != null) {
+            queryMessagePage.setParameter("beforeMessageId", beforeMessageId);
+        }
+        queryMessagePage.setParameter("limit", limit);
+        return queryMessagePage.getResultList();
     }
 }
@@ -1,14 +1,38 @@
 package com.sparta.village.domain.chat.repository;
 
 import com.sparta.village.domain.chat.entity.ChatMessage;
-import com.sparta.village.domain.chat.entity.ChatRoom;
-import com.sparta.village.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+    //soft delete 된 메세지. @Where 가 붙지 않도록 native 쿼리를 쓰고, (is_deleted, id) 인덱스로 삭제된 행만 읽음
+    @Query(value = "select m.id from chat_message m " +
+            "where m.is_deleted = true and m.id > :lastId " +
+            "order by m.id " +
+            "limit :limit", nativeQuery = true)
+    List<Number> findDeletedIds(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    //cutoff 이전 메세지. id 가 시간순이라 maxId(cutoff 시각의 첫 id) 미만만 PK 범위로 읽음
+    //id 발급기 도입 전의 auto increment id 는 항상 maxId 보다 작으므로 created_at_millis 로 한 번 더 거름
+    @Query(value = "select m.id from chat_message m " +
+            "where m.id > :lastId and m.id < :maxId and m.created_at_millis < :cutoffMillis " +
+            "order by m.id " +
+            "limit :limit", nativeQuery = true)
+    List<Number> findArchivableIds(@Param("lastId") Long lastId, @Param("maxId") long maxId, @Param("cutoffMillis") long cutoffMillis,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "insert into chat_message_archive (id, content, created_at_millis, is_deleted, room_id, sender_id, archived_at) " +
+            "select m.id, m.content, m.created_at_millis, m.is_deleted, m.room_id, m.sender_id, :archivedAt " +
+            "from chat_message m where m.id in (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "delete from chat_message where id in (:ids)", nativeQuery = true)
+    int deleteAllByIds(@Param("ids") List<Long> ids);
 }
@@ -1,8 +1,7 @@
 package com.sparta.village.domain.chat.repository;
 
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
 import com.sparta.village.domain.chat.entity.ChatRoom;
-import com.sparta.village.domain.product.entity.Product;
-import com.sparta.village.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,7 +13,25 @@ import java.util.Optional;
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByRoomId(String roomId);
 
-    Optional<ChatRoom> findChatRoomByProductAndUser(Product product, User user);
+    //(product_id, user_id) unique 제약에 걸리면 기존 방 id 를 last_insert_id 로 돌려줌. 삭제된 방이면 비어 있는 방으로 되살림
+    @Modifying
+    @Query(value = "insert into chat_room (room_id, product_id, user_id, owner_id, is_deleted) " +
+            "values (:roomId, :productId, :userId, :ownerId, false) " +
+            "on duplicate key update id = last_insert_id(id), " +
+            "last_message_id = if(is_deleted, null, last_message_id), " +
+            "last_message_preview = if(is_deleted, null, last_message_preview), " +
+            "last_message_at = if(is_deleted, null, last_message_at), " +
+            "is_deleted = false", nativeQuery = true)
+    void upsertRoom(@Param("roomId") String roomId, @Param("productId") Long productId, @Param("userId") Long userId, @Param("ownerId") Long ownerId);
+
+    @Query(value = "select last_insert_id()", nativeQuery = true)
+    Long findLastInsertId();
+
+    @Query(value = "select count(r) > 0 from ChatRoom r where r.id = :roomId and (r.user.id = :userId or r.owner.id = :userId)")
+    boolean checkRoomMember(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    @Query(value = "select new com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto(r.user.id, r.owner.id) from ChatRoom r where r.id = :roomId")
+    Optional<ChatRoomParticipantsDto> findParticipants(@Param("roomId") Long roomId);
 
     @Modifying
     @Query(value = "update chat_room r " +
@@ -0,0 +1,69 @@
+package com.sparta.village.domain.chat.scheduler;
+
+import com.sparta.village.domain.chat.repository.ChatMessageRepository;
+import com.sparta.village.domain.chat.service.ChatMessageIdGenerator;
+import com.sparta.village.domain.chat.service.ChatService;
+import com.sparta.village.global.scheduler.KeysetChunkJob;
+import com.sparta.village.global.scheduler.SchedulerLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+public class ChatMessageArchiveScheduler {
+    private static final String JOB_NAME = "chat-archive";
+    private static final Duration LOCK_AT_MOST = Duration.ofHours(2);
+    private static final Duration LOCK_AT_LEAST = Duration.ofSeconds(30);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatService chatService;
+    private final SchedulerLock schedulerLock;
+    private final KeysetChunkJob archiveJob;
+
+    //한 번에 옮길 메세지 수
+    @Value("${chat.archive.batch-size:1000}")
+    private int batchSize;
+
+    //이 기간보다 오래된 메세지는 archive 로 이동
+    @Value("${chat.archive.hot-days:90}")
+    private long hotDays;
+
+    public ChatMessageArchiveScheduler(ChatMessageRepository chatMessageRepository, ChatService chatService, SchedulerLock schedulerLock,
+                                       MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatService = chatService;
+        this.schedulerLock = schedulerLock;
+        this.archiveJob = new KeysetChunkJob(JOB_NAME, meterRegistry,
+                "chat.archive.moved", "Chat messages moved to chat_message_archive",
+                "chat.archive.runs", "Chat message archive job executions");
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 30 4 * * *}")
+    public void archiveMessages() {
+        schedulerLock.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, this::archive);
+    }
+
+    //삭제된 메세지는 (is_deleted, id) 인덱스로, 오래된 메세지는 cutoff 시각의 id 까지만 PK 범위로 읽어서 hot 테이블 전체를 훑지 않음
+    private void archive() {
+        long cutoffMillis = System.currentTimeMillis() - Duration.ofDays(hotDays).toMillis();
+        long maxId = ChatMessageIdGenerator.minIdAt(cutoffMillis);
+        int deleted = archiveJob.process(batchSize,
+                lastId -> toLongs(chatMessageRepository.findDeletedIds(lastId, batchSize)),
+                chatService::archiveMessages);
+        int old = archiveJob.process(batchSize,
+                lastId -> toLongs(chatMessageRepository.findArchivableIds(lastId, maxId, cutoffMillis, batchSize)),
+                chatService::archiveMessages);
+        archiveJob.recordRun();
+        log.info("Archived {} deleted and {} old chat messages.", deleted, old);
+    }
+
+    private List<Long> toLongs(List<Number> ids) {
+        return ids.stream().map(Number::longValue).toList();
+    }
+}
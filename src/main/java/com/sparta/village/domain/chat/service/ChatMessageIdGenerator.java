@@ -0,0 +1,54 @@
+package com.sparta.village.domain.chat.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+//DB 저장 전에 메세지 id를 발급하기 위한 시간 기반 id 생성기 (41bit 시간 | 10bit 노드 | 12bit 시퀀스)
+//기존 auto increment id 보다 항상 크기 때문에 id 순 정렬과 keyset 페이지네이션이 그대로 유지됨
+@Component
+public class ChatMessageIdGenerator {
+    private static final long EPOCH = 1672531200000L; // 2023-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(@Value("${chat.message.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId >= (1L << NODE_BITS)) {
+            throw new IllegalArgumentException("chat.message.node-id must be between 0 and " + ((1L << NODE_BITS) - 1));
+        }
+        this.nodeId = nodeId;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = currentTimeMillis();
+        if (timestamp < lastTimestamp) {
+            //시계가 뒤로 간 경우 마지막 시각을 기준으로 계속 발급
+            timestamp = lastTimestamp;
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                //같은 ms 안에서 시퀀스를 다 쓰면 다음 ms 로 넘어감
+                timestamp = Math.max(currentTimeMillis(), lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    //해당 시각에 발급될 수 있는 가장 작은 id. 이보다 작은 id 는 모두 그 이전에 발급됨
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0L, epochMillis - EPOCH) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    //테스트에서 시각을 고정할 수 있도록 분리
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,224 @@
+package com.sparta.village.domain.chat.service;
+
+import com.sparta.village.domain.chat.util.ChatTimeFormatter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+//채팅 메세지를 큐에 쌓아두고 별도 스레드에서 묶어서 insert 하는 write-behind 저장소
+@Slf4j
+@Component
+public class ChatMessageWriter {
+    private static final String INSERT_MESSAGE_SQL = "insert into chat_message (id, content, created_at_millis, is_deleted, room_id, sender_id) values (?, ?, ?, false, ?, ?)";
+    private static final String UPDATE_LAST_MESSAGE_SQL = "update chat_room set last_message_id = ?, last_message_preview = ?, last_message_at = ? " +
+            "where id = ? and (last_message_id is null or last_message_id < ?)";
+    private static final int MAX_RETRY = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingChatMessage> queue;
+    //DB 에 연결할 수 없어서 저장하지 못한 메세지. 이미 브로드캐스트 된 메세지라 버리지 않고 다음 flush 때 먼저 저장
+    //장애가 길어져도 메모리를 다 쓰지 않도록 크기를 제한하고, 넘치는 메세지는 dead letter 로 기록
+    private final BlockingQueue<PendingChatMessage> retryQueue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long retryBackoffMs;
+
+    private final Counter persistedCounter;
+    private final Counter backpressureCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                             @Value("${chat.writer.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.writer.batch-size:200}") int batchSize,
+                             @Value("${chat.writer.flush-interval-ms:50}") long flushIntervalMs,
+                             @Value("${chat.writer.offer-timeout-ms:100}") long offerTimeoutMs,
+                             @Value("${chat.writer.retry-backoff-ms:1000}") long retryBackoffMs,
+                             @Value("${chat.writer.retry-capacity:10000}") int retryCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retryQueue = new ArrayBlockingQueue<>(retryCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.retryBackoffMs = retryBackoffMs;
+        Gauge.builder("chat.writer.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("chat.writer.retry.size", retryQueue, BlockingQueue::size).register(meterRegistry);
+        this.persistedCounter = meterRegistry.counter("chat.writer.persisted");
+        this.backpressureCounter = meterRegistry.counter("chat.writer.backpressure");
+        this.failedCounter = meterRegistry.counter("chat.writer.failed");
+        this.deadLetterCounter = meterRegistry.counter("chat.writer.dead-lettered");
+        this.batchTimer = meterRegistry.timer("chat.writer.batch");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "chat-message-writer");
+        writerThread.start();
+    }
+
+    //큐가 가득 차면 잠시 기다리고, 그래도 자리가 없으면 호출한 스레드에서 직접 저장 (backpressure)
+    public void enqueue(PendingChatMessage message) {
+        try {
+            if (running && queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        backpressureCounter.increment();
+        List<PendingChatMessage> single = List.of(message);
+        if (!writeWithRetry(single)) {
+            writeEach(single);
+        }
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                //저장하지 못했던 메세지부터 다시 시도
+                List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+                retryQueue.drainTo(batch, batchSize);
+                if (batch.isEmpty()) {
+                    PendingChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                if (!writeWithRetry(batch) && !writeEach(batch)) {
+                    //DB 가 복구될 시간을 두고 다시 시도
+                    Thread.sleep(retryBackoffMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean writeWithRetry(List<PendingChatMessage> batch) {
+        for (int attempt = 1; attempt <= MAX_RETRY; attempt++) {
+            try {
+                batchTimer.record(() -> write(batch));
+                persistedCounter.increment(batch.size());
+                return true;
+            } catch (Exception e) {
+                log.warn("Failed to persist {} chat messages (attempt {}/{}).", batch.size(), attempt, MAX_RETRY, e);
+            }
+        }
+        failedCounter.increment(batch.size());
+        log.error("Failed to persist {} chat messages after {} attempts, writing them one by one. First id: {}",
+                batch.size(), MAX_RETRY, batch.get(0).getId());
+        return false;
+    }
+
+    //실패한 배치를 한 건씩 저장해서 문제가 있는 메세지만 골라냄. 한 메세지 때문에 나머지가 막히지 않도록 함
+    //DB 에 연결할 수 없는 오류면 남은 메세지를 재시도 큐에 넣고 false, 그 외 오류로 실패한 메세지는 dead letter 로 기록
+    private boolean writeEach(List<PendingChatMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            List<PendingChatMessage> single = List.of(batch.get(i));
+            try {
+                batchTimer.record(() -> write(single));
+                persistedCounter.increment();
+            } catch (Exception e) {
+                if (isRetryable(e)) {
+                    batch.subList(i, batch.size()).forEach(this::keepForRetry);
+                    return false;
+                }
+                deadLetter(batch.get(i), e.toString());
+            }
+        }
+        return true;
+    }
+
+    private boolean isRetryable(Exception e) {
+        return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException || e instanceof TransactionException;
+    }
+
+    private void keepForRetry(PendingChatMessage message) {
+        if (!retryQueue.offer(message)) {
+            deadLetter(message, "retry queue is full");
+        }
+    }
+
+    private void deadLetter(PendingChatMessage message, String reason) {
+        deadLetterCounter.increment();
+        log.error("Dropped chat message {} in room {} from sender {}: {}", message.getId(), message.getRoomId(), message.getSenderId(), reason);
+    }
+
+    private void write(List<PendingChatMessage> batch) {
+        //방마다 배치 안에서 가장 마지막 메세지로만 chat_room 을 갱신
+        Map<Long, PendingChatMessage> lastMessageByRoom = new LinkedHashMap<>();
+        for (PendingChatMessage message : batch) {
+            lastMessageByRoom.merge(message.getRoomId(), message, (a, b) -> a.getId() > b.getId() ? a : b);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, batch, batch.size(), (ps, m) -> {
+                ps.setLong(1, m.getId());
+                ps.setString(2, m.getContent());
+                ps.setLong(3, m.getCreatedAt());
+                ps.setLong(4, m.getRoomId());
+                ps.setLong(5, m.getSenderId());
+            });
+            List<PendingChatMessage> lastMessages = new ArrayList<>(lastMessageByRoom.values());
+            jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastMessages, lastMessages.size(), (ps, m) -> {
+                String content = m.getContent();
+                ps.setLong(1, m.getId());
+                ps.setString(2, content.length() > 100 ? content.substring(0, 100) : content);
+                ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(m.getCreatedAt()), ChatTimeFormatter.ZONE_ID)));
+                ps.setLong(4, m.getRoomId());
+                ps.setLong(5, m.getId());
+            });
+        });
+    }
+
+    //종료 시 큐와 재시도 대기 중인 메세지를 모두 저장한 뒤에 DataSource 가 닫히도록 함
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join();
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        retryQueue.drainTo(remaining);
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty() && !writeWithRetry(remaining) && !writeEach(remaining)) {
+            List<PendingChatMessage> lost = new ArrayList<>();
+            retryQueue.drainTo(lost);
+            log.error("Lost {} chat messages on shutdown. Ids: {}", lost.size(),
+                    lost.stream().map(PendingChatMessage::getId).toList());
+        }
+        log.info("Chat message writer stopped.");
+    }
+}
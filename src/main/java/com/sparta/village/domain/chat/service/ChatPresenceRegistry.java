@@ -0,0 +1,242 @@
+package com.sparta.village.domain.chat.service;
+
+import com.sparta.village.domain.chat.dto.PresenceDto;
+import com.sparta.village.domain.chat.dto.TypingDto;
+import com.sparta.village.global.websocket.ChatPrincipal;
+import com.sparta.village.global.websocket.MessageBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+//채팅방 접속/입력 중 상태. 노드 안에서는 ConcurrentHashMap 으로만 관리하고 (MySQL 사용 안 함)
+//다른 노드와는 Redis 해시 chat:presence:{roomId} (userId:nodeId -> 만료 시각)로 합침
+@Slf4j
+@Component
+public class ChatPresenceRegistry {
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/sub/chat/room/(\\d+)$");
+
+    private final StringRedisTemplate redisTemplate;
+    private final MessageBroadcaster messageBroadcaster;
+    private final long nodeId;
+    private final long ttlMs;
+    private final long typingIntervalMs;
+
+    //sessionId -> 세션 정보
+    private final Map<String, PresenceSession> sessions = new ConcurrentHashMap<>();
+    //roomId -> 해당 방을 구독 중인 sessionId
+    private final Map<Long, Set<String>> rooms = new ConcurrentHashMap<>();
+    //roomId:userId -> 마지막으로 typing 을 보낸 시각
+    private final Map<String, Long> lastTypingAt = new ConcurrentHashMap<>();
+
+    public ChatPresenceRegistry(StringRedisTemplate redisTemplate, MessageBroadcaster messageBroadcaster,
+                                @Value("${chat.message.node-id:0}") long nodeId,
+                                @Value("${chat.presence.ttl-ms:90000}") long ttlMs,
+                                @Value("${chat.typing.min-interval-ms:2000}") long typingIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.messageBroadcaster = messageBroadcaster;
+        this.nodeId = nodeId;
+        this.ttlMs = ttlMs;
+        this.typingIntervalMs = typingIntervalMs;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null || !(event.getUser() instanceof ChatPrincipal)) {
+            return;
+        }
+        ChatPrincipal principal = (ChatPrincipal) event.getUser();
+        PresenceSession session = sessions.computeIfAbsent(accessor.getSessionId(),
+                id -> new PresenceSession(id, principal.getUserId(), principal.getNickname()));
+        session.touch();
+        session.subscriptions.put(accessor.getSubscriptionId(), roomId);
+        rooms.compute(roomId, (key, sessionIds) -> {
+            Set<String> result = sessionIds == null ? ConcurrentHashMap.newKeySet() : sessionIds;
+            result.add(session.sessionId);
+            return result;
+        });
+        markOnline(roomId, session);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        PresenceSession session = sessions.get(accessor.getSessionId());
+        if (session == null) {
+            return;
+        }
+        Long roomId = session.subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null && !session.subscriptions.containsValue(roomId)) {
+            leaveRoom(roomId, session);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    //클라이언트가 주기적으로 보내는 heartbeat. ttl 동안 아무 프레임도 없으면 오프라인 처리
+    public void touch(String sessionId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        }
+    }
+
+    //입력 중 이벤트는 (방, 사용자)마다 typingIntervalMs 에 한 번만 전달
+    public void typing(String sessionId, Long roomId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session == null || !session.subscriptions.containsValue(roomId)) {
+            return;
+        }
+        session.touch();
+        long now = System.currentTimeMillis();
+        boolean[] send = {false};
+        lastTypingAt.compute(roomId + ":" + session.userId, (key, last) -> {
+            if (last != null && now - last < typingIntervalMs) {
+                return last;
+            }
+            send[0] = true;
+            return now;
+        });
+        if (send[0]) {
+            messageBroadcaster.broadcast("/sub/chat/room/" + roomId + "/typing", new TypingDto(roomId, session.userId, session.nickname));
+        }
+    }
+
+    //모든 노드에서 접속 중인 사용자 (Redis 기준)
+    public Set<Long> getOnlineUserIds(Long roomId) {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(presenceKey(roomId));
+        return entries.entrySet().stream()
+                .filter(e -> Long.parseLong((String) e.getValue()) > now)
+                .map(e -> Long.parseLong(((String) e.getKey()).split(":")[0]))
+                .collect(Collectors.toSet());
+    }
+
+    //만료된 세션 정리 후 이 노드에 접속 중인 사용자의 만료 시각을 Redis 에 갱신
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-ms:30000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        sessions.values().stream()
+                .filter(session -> now - session.lastSeen > ttlMs)
+                .map(session -> session.sessionId)
+                .toList()
+                .forEach(this::removeSession);
+        lastTypingAt.values().removeIf(last -> now - last > typingIntervalMs);
+
+        String expiresAt = String.valueOf(now + ttlMs);
+        try {
+            rooms.forEach((roomId, sessionIds) -> {
+                Map<String, String> fields = new HashMap<>();
+                sessionIds.forEach(sessionId -> {
+                    PresenceSession session = sessions.get(sessionId);
+                    if (session != null) {
+                        fields.put(presenceField(session.userId), expiresAt);
+                    }
+                });
+                if (!fields.isEmpty()) {
+                    redisTemplate.opsForHash().putAll(presenceKey(roomId), fields);
+                    redisTemplate.expire(presenceKey(roomId), Duration.ofMillis(ttlMs * 2));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to refresh chat presence in redis.", e);
+        }
+    }
+
+    private void removeSession(String sessionId) {
+        PresenceSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        Set.copyOf(session.subscriptions.values()).forEach(roomId -> leaveRoom(roomId, session));
+    }
+
+    private void leaveRoom(Long roomId, PresenceSession session) {
+        rooms.computeIfPresent(roomId, (key, sessionIds) -> {
+            sessionIds.remove(session.sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+        if (isLocallyOnline(roomId, session.userId)) {
+            return;
+        }
+        redisTemplate.opsForHash().delete(presenceKey(roomId), presenceField(session.userId));
+        //다른 노드에 같은 사용자의 세션이 남아 있으면 오프라인을 알리지 않음
+        if (!getOnlineUserIds(roomId).contains(session.userId)) {
+            messageBroadcaster.broadcast(presenceDestinationOf(roomId), new PresenceDto(roomId, session.userId, session.nickname, false));
+        }
+    }
+
+    private void markOnline(Long roomId, PresenceSession session) {
+        redisTemplate.opsForHash().put(presenceKey(roomId), presenceField(session.userId), String.valueOf(System.currentTimeMillis() + ttlMs));
+        redisTemplate.expire(presenceKey(roomId), Duration.ofMillis(ttlMs * 2));
+        messageBroadcaster.broadcast(presenceDestinationOf(roomId), new PresenceDto(roomId, session.userId, session.nickname, true));
+    }
+
+    private boolean isLocallyOnline(Long roomId, Long userId) {
+        Set<String> sessionIds = rooms.get(roomId);
+        if (sessionIds == null) {
+            return false;
+        }
+        return sessionIds.stream().map(sessions::get).anyMatch(session -> session != null && session.userId.equals(userId));
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private String presenceKey(Long roomId) {
+        return "chat:presence:{" + roomId + "}";
+    }
+
+    private String presenceField(Long userId) {
+        return userId + ":" + nodeId;
+    }
+
+    private String presenceDestinationOf(Long roomId) {
+        return "/sub/chat/room/" + roomId + "/presence";
+    }
+
+    private static class PresenceSession {
+        private final String sessionId;
+        private final Long userId;
+        private final String nickname;
+        //subscriptionId -> roomId
+        private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+        private volatile long lastSeen;
+
+        private PresenceSession(String sessionId, Long userId, String nickname) {
+            this.sessionId = sessionId;
+            this.userId = userId;
+            this.nickname = nickname;
+            this.lastSeen = System.currentTimeMillis();
+        }
+
+        private void touch() {
+            lastSeen = System.currentTimeMillis();
+        }
+    }
+}
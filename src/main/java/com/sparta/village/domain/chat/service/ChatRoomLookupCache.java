@@ -0,0 +1,76 @@
+package com.sparta.village.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.village.domain.user.event.NicknameChangedEvent;
+import com.sparta.village.global.cache.CacheEvictionPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+//(상품, 빌리는 사람 닉네임) -> 채팅방 id. 같은 방에 다시 들어올 때 DB 를 거치지 않도록 함
+//방 삭제와 닉네임 변경 시 pub/sub 으로 모든 노드에서 evict 하고, 알림을 놓친 노드도 expire-minutes 가 지나면 다시 조회
+@Slf4j
+@Component
+public class ChatRoomLookupCache {
+    private static final String CHANNEL = "chat:room-lookup:evict";
+    //pub/sub 메세지 형식. "key:{productId}:{nickname}" 또는 "nickname:{nickname}"
+    private static final String KEY_PREFIX = "key:";
+    private static final String NICKNAME_PREFIX = "nickname:";
+
+    private final Cache<String, Long> cache;
+    private final CacheEvictionPublisher evictionPublisher;
+
+    public ChatRoomLookupCache(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                               @Value("${chat.room-cache.max-size:50000}") long maxSize,
+                               @Value("${chat.room-cache.expire-minutes:10}") long expireMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+        this.evictionPublisher = new CacheEvictionPublisher(redisTemplate, listenerContainer, CHANNEL, this::handle);
+    }
+
+    public Long get(Long productId, String nickname) {
+        return cache.getIfPresent(key(productId, nickname));
+    }
+
+    public void put(Long productId, String nickname, Long roomId) {
+        cache.put(key(productId, nickname), roomId);
+    }
+
+    //트랜잭션 안이면 커밋 이후에 다른 노드에 알림
+    public void evict(Long productId, String nickname) {
+        evictionPublisher.evictAfterCommit(KEY_PREFIX + key(productId, nickname));
+    }
+
+    //옛 닉네임을 다른 사용자가 가져가도 이전 주인의 방을 돌려주지 않도록 모든 노드에서 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNicknameChanged(NicknameChangedEvent event) {
+        evictionPublisher.evict(NICKNAME_PREFIX + event.getOldNickname());
+    }
+
+    private void handle(String body) {
+        if (body.startsWith(KEY_PREFIX)) {
+            cache.invalidate(body.substring(KEY_PREFIX.length()));
+        } else if (body.startsWith(NICKNAME_PREFIX)) {
+            evictNickname(body.substring(NICKNAME_PREFIX.length()));
+        } else {
+            log.warn("Ignoring invalid room lookup cache eviction {}.", body);
+        }
+    }
+
+    //닉네임 변경은 드물기 때문에 전체를 훑어서 제거
+    private void evictNickname(String nickname) {
+        cache.asMap().keySet().removeIf(key -> key.substring(key.indexOf(':') + 1).equals(nickname));
+    }
+
+    private String key(Long productId, String nickname) {
+        return productId + ":" + nickname;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparta.village.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
+import com.sparta.village.domain.chat.repository.ChatRoomRepository;
+import com.sparta.village.global.cache.CacheEvictionPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+//채팅방 참여자(빌리는 사람, 주인)는 바뀌지 않으므로 메세지마다 조회하지 않도록 캐시
+//방 삭제 시 pub/sub 으로 모든 노드에서 evict 하고, 알림을 놓친 노드도 expire-minutes 가 지나면 다시 조회
+@Slf4j
+@Component
+public class ChatRoomParticipantCache {
+    private static final String CHANNEL = "chat:participants:evict";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Cache<Long, ChatRoomParticipantsDto> cache;
+    private final CacheEvictionPublisher evictionPublisher;
+
+    public ChatRoomParticipantCache(ChatRoomRepository chatRoomRepository, StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    @Value("${chat.participant-cache.max-size:10000}") long maxSize,
+                                    @Value("${chat.participant-cache.expire-minutes:10}") long expireMinutes) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+        this.evictionPublisher = new CacheEvictionPublisher(redisTemplate, listenerContainer, CHANNEL, this::invalidate);
+    }
+
+    //없는 방이면 null (캐시에 저장하지 않음)
+    public ChatRoomParticipantsDto get(Long roomId) {
+        return cache.get(roomId, id -> chatRoomRepository.findParticipants(id).orElse(null));
+    }
+
+    //트랜잭션 안이면 커밋 이후에 다른 노드에 알려서, 커밋 전에 삭제 전 값을 다시 채우는 경우를 막음
+    public void evict(Long roomId) {
+        evictionPublisher.evictAfterCommit(String.valueOf(roomId));
+    }
+
+    private void invalidate(String body) {
+        try {
+            cache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid participant cache eviction {}.", body);
+        }
+    }
+}
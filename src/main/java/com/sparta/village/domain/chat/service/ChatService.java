@@ -2,77 +2,170 @@ package com.sparta.village.domain.chat.service;
 
 import com.sparta.village.domain.chat.dto.ChatMessageDto;
 import com.sparta.village.domain.chat.dto.ChatMessageResponseDto;
-import com.sparta.village.domain.chat.entity.ChatMessage;
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
+import com.sparta.village.domain.chat.dto.MyChatRoomResponseDto;
+import com.sparta.village.domain.chat.dto.RoomListDto;
+import com.sparta.village.domain.chat.dto.UnreadCountDto;
 import com.sparta.village.domain.chat.entity.ChatRoom;
 import com.sparta.village.domain.chat.repository.ChatMessageQueryRepository;
 import com.sparta.village.domain.chat.repository.ChatMessageRepository;
 import com.sparta.village.domain.chat.repository.ChatRoomRepository;
-import com.sparta.village.domain.product.entity.Product;
+import com.sparta.village.domain.chat.util.ChatSearchQuery;
+import com.sparta.village.domain.chat.util.ChatTimeFormatter;
 import com.sparta.village.domain.product.repository.ProductRepository;
 import com.sparta.village.domain.user.entity.User;
 import com.sparta.village.domain.user.service.UserService;
 import com.sparta.village.global.exception.CustomException;
 import com.sparta.village.global.exception.ErrorCode;
 import com.sparta.village.global.exception.ResponseMessage;
+import com.sparta.village.global.websocket.ChatPrincipal;
+import com.sparta.village.global.websocket.MessageBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
+    //chat_message.content 컬럼 길이
+    private static final int MAX_CONTENT_LENGTH = 255;
+
     private final ProductRepository productRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriter chatMessageWriter;
     private final ChatMessageQueryRepository chatMessageQueryRepository;
-    private final SimpMessageSendingOperations template;
+    private final ChatMessageRepository chatMessageRepository;
+    private final MessageBroadcaster messageBroadcaster;
     private final UserService userService;
+    private final ChatRoomParticipantCache chatRoomParticipantCache;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final ChatRoomLookupCache chatRoomLookupCache;
+
+    //같은 (상품, 사용자) 방은 하나만 생기도록 unique 제약 + upsert. 이미 있는 방이면 캐시에서 바로 반환
     @Transactional
     public ResponseEntity<ResponseMessage> enterRoom(Long productId, String nickname) {
-        User user = userService.getUserByNickname(nickname);
-        Product product = productRepository.findById(productId).orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-        User owner = userService.getUserByNickname(product.getUser().getNickname());
-        ChatRoom room = chatRoomRepository.findChatRoomByProductAndUser(product, user).orElse(null);
-        if (room == null) {
-            room = new ChatRoom(product, user, owner);
-            chatRoomRepository.saveAndFlush(room);
+        Long roomId = chatRoomLookupCache.get(productId, nickname);
+        if (roomId == null) {
+            User user = userService.getUserByNickname(nickname);
+            Long ownerId = productRepository.findOwnerIdById(productId).orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+            chatRoomRepository.upsertRoom(ChatRoom.newRoomId(), productId, user.getId(), ownerId);
+            roomId = chatRoomRepository.findLastInsertId();
+            chatRoomLookupCache.put(productId, nickname, roomId);
         }
-        return ResponseMessage.SuccessResponse("방 입장", room.getId());
+        return ResponseMessage.SuccessResponse("방 입장", roomId);
     }
 
     @Transactional
-    public ResponseEntity<ResponseMessage> findMessageHistory(Long roomId, User user) {
-        return ResponseMessage.SuccessResponse("대화 불러오기 성공", chatMessageQueryRepository.findMessageList(roomId, user.getId()));
+    public ResponseEntity<ResponseMessage> findMessageHistory(Long roomId, int size, User user) {
+        MyChatRoomResponseDto responseDto = chatMessageQueryRepository.findMessageList(roomId, user.getId(), size);
+        //열어본 방은 읽음 처리하고, 나머지 방은 Redis 의 안 읽은 수를 채움
+        responseDto.getRoomList().stream().filter(RoomListDto::isTarget)
+                .forEach(room -> chatUnreadCounter.reset(room.getRoomId(), user.getId()));
+        Map<Long, Long> unreadCounts = chatUnreadCounter.getRoomCounts(user.getId());
+        responseDto.getRoomList().forEach(room -> room.setUnreadCount(unreadCounts.getOrDefault(room.getRoomId(), 0L)));
+        return ResponseMessage.SuccessResponse("대화 불러오기 성공", responseDto);
     }
 
-    @Transactional
-    public void saveMessage(ChatMessageDto message) {
-        User user = userService.getUserByNickname(message.getSender());
-        ChatRoom room = chatRoomRepository.findById(message.getRoomId()).orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
-        ChatMessage chatMessage = new ChatMessage(user, message.getContent(), room);
-        chatMessageRepository.saveAndFlush(chatMessage);
-        ChatMessageResponseDto responseDto = new ChatMessageResponseDto(chatMessage.getRoom().getId(), chatMessage.getSender().getNickname(), chatMessage.getContent(), changeDateFormat(chatMessage.getCreatedAt()));
-        template.convertAndSend("/sub/chat/room/" + message.getRoomId(), responseDto);
+    @Transactional(readOnly = true)
+    public ResponseEntity<ResponseMessage> findMessagePage(Long roomId, Long beforeMessageId, int size, User user) {
+        if (!chatRoomRepository.checkRoomMember(roomId, user.getId())) {
+            throw new CustomException(ErrorCode.CHATROOM_NOT_FOUND);
+        }
+        return ResponseMessage.SuccessResponse("이전 대화 불러오기 성공", chatMessageQueryRepository.findMessagePage(roomId, beforeMessageId, size));
+    }
+
+    //id와 시간을 먼저 발급해서 바로 브로드캐스트하고, DB 저장은 writer 스레드가 묶어서 처리
+    //보낸 사람은 STOMP 연결 시 인증된 principal 을 사용하므로 사용자 조회가 없음
+    public void saveMessage(ChatMessageDto message, ChatPrincipal sender) {
+        //저장할 수 없는 메세지는 브로드캐스트 전에 거절. writer 의 배치를 계속 실패시키지 않도록 함
+        if (!StringUtils.hasText(message.getContent()) || message.getContent().length() > MAX_CONTENT_LENGTH) {
+            throw new CustomException(ErrorCode.BAD_CHAT_MESSAGE);
+        }
+        ChatRoomParticipantsDto participants = getParticipants(message.getRoomId(), sender.getUserId());
+        PendingChatMessage pendingMessage = new PendingChatMessage(chatMessageIdGenerator.nextId(), message.getRoomId(), sender.getUserId(),
+                message.getContent(), System.currentTimeMillis());
+        ChatMessageResponseDto responseDto = new ChatMessageResponseDto(pendingMessage.getRoomId(), sender.getNickname(), pendingMessage.getContent(),
+                ChatTimeFormatter.format(pendingMessage.getCreatedAt()), pendingMessage.getId(), pendingMessage.getCreatedAt());
+        messageBroadcaster.broadcast("/sub/chat/room/" + message.getRoomId(), responseDto);
+        chatMessageWriter.enqueue(pendingMessage);
+
+        Long receiverId = participants.otherThan(sender.getUserId());
+        long[] unread = chatUnreadCounter.increment(message.getRoomId(), receiverId);
+        messageBroadcaster.broadcast(unreadDestinationOf(receiverId), new UnreadCountDto(message.getRoomId(), unread[0], unread[1]));
+    }
+
+    public ResponseEntity<ResponseMessage> markAsRead(Long roomId, Long userId) {
+        getParticipants(roomId, userId);
+        long total = chatUnreadCounter.reset(roomId, userId);
+        UnreadCountDto unreadCountDto = new UnreadCountDto(roomId, 0, total);
+        //같은 사용자의 다른 기기에도 뱃지 갱신
+        messageBroadcaster.broadcast(unreadDestinationOf(userId), unreadCountDto);
+        return ResponseMessage.SuccessResponse("읽음 처리 성공", unreadCountDto);
+    }
+
+    public ResponseEntity<ResponseMessage> getTotalUnreadCount(Long userId) {
+        return ResponseMessage.SuccessResponse("안 읽은 메세지 수 조회 성공", chatUnreadCounter.getTotal(userId));
     }
 
     @Transactional
     public ResponseEntity<ResponseMessage> deleteRoom(Long roomId) {
         ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
         chatRoomRepository.deleteAllAboutRoomById(room.getId());
+        chatRoomParticipantCache.evict(room.getId());
+        chatRoomLookupCache.evict(room.getProduct().getId(), room.getUser().getNickname());
+        chatUnreadCounter.reset(room.getId(), room.getUser().getId());
+        chatUnreadCounter.reset(room.getId(), room.getOwner().getId());
         return ResponseMessage.SuccessResponse("채팅방 삭제 성공", "");
     }
 
-    private String changeDateFormat(String createdAt) {
-        String[] date = createdAt.split(" ");
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String today = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter);
-        return date[0].equals(today) ? date[1] : date[0];
+    @Transactional(readOnly = true)
+    public ResponseEntity<ResponseMessage> searchMessages(String query, Long beforeMessageId, int size, User user) {
+        List<String> tokens = ChatSearchQuery.tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER);
+        }
+        return ResponseMessage.SuccessResponse("메세지 검색 성공", chatMessageQueryRepository.searchMessages(user.getId(), tokens, beforeMessageId, size));
+    }
+
+    public ResponseEntity<ResponseMessage> getOnlineUsers(Long roomId, Long userId) {
+        getParticipants(roomId, userId);
+        return ResponseMessage.SuccessResponse("접속 중인 사용자 조회 성공", chatPresenceRegistry.getOnlineUserIds(roomId));
+    }
+
+    public void typing(String sessionId, Long roomId) {
+        chatPresenceRegistry.typing(sessionId, roomId);
+    }
+
+    public void touchPresence(String sessionId) {
+        chatPresenceRegistry.touch(sessionId);
+    }
+
+    //archive 에 복사한 뒤 hot 테이블에서 삭제. 같은 트랜잭션이라 중간에 실패해도 메세지가 사라지거나 중복되지 않음
+    @Transactional
+    public int archiveMessages(List<Long> ids) {
+        chatMessageRepository.copyToArchive(ids, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        return chatMessageRepository.deleteAllByIds(ids);
+    }
+
+    private ChatRoomParticipantsDto getParticipants(Long roomId, Long userId) {
+        ChatRoomParticipantsDto participants = chatRoomParticipantCache.get(roomId);
+        if (participants == null || !participants.contains(userId)) {
+            throw new CustomException(ErrorCode.CHATROOM_NOT_FOUND);
+        }
+        return participants;
+    }
+
+    private String unreadDestinationOf(Long userId) {
+        return "/sub/user/" + userId + "/unread";
     }
 
 }
@@ -0,0 +1,67 @@
+package com.sparta.village.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//사용자별 안 읽은 메세지 수. chat:unread:{userId} 해시(방번호 -> 개수)와 전체 합계 키를 Lua 로 함께 갱신
+//{userId} 해시태그로 두 키가 같은 슬롯에 들어가서 클러스터에서도 스크립트 실행 가능
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+    private static final RedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local c = redis.call('HINCRBY', KEYS[1], ARGV[1], 1) " +
+            "local t = redis.call('INCR', KEYS[2]) " +
+            "return {c, t}", List.class);
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "local c = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if c > 0 then " +
+            "  redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "  if redis.call('DECRBY', KEYS[2], c) < 0 then redis.call('SET', KEYS[2], 0) end " +
+            "end " +
+            "return tonumber(redis.call('GET', KEYS[2]) or '0')", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    //증가 후 [방의 안 읽은 수, 전체 안 읽은 수]
+    public long[] increment(Long roomId, Long userId) {
+        List<?> result = redisTemplate.execute(INCREMENT_SCRIPT, keys(userId), String.valueOf(roomId));
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+
+    //읽음 처리 후 남은 전체 안 읽은 수
+    public long reset(Long roomId, Long userId) {
+        Long total = redisTemplate.execute(RESET_SCRIPT, keys(userId), String.valueOf(roomId));
+        return total == null ? 0 : total;
+    }
+
+    public Map<Long, Long> getRoomCounts(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(roomKey(userId));
+        Map<Long, Long> counts = new HashMap<>();
+        entries.forEach((roomId, count) -> counts.put(Long.parseLong((String) roomId), Long.parseLong((String) count)));
+        return counts;
+    }
+
+    public long getTotal(Long userId) {
+        String total = redisTemplate.opsForValue().get(totalKey(userId));
+        return total == null ? 0 : Math.max(0, Long.parseLong(total));
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(roomKey(userId), totalKey(userId));
+    }
+
+    private String roomKey(Long userId) {
+        return "chat:unread:{" + userId + "}";
+    }
+
+    private String totalKey(Long userId) {
+        return "chat:unread:total:{" + userId + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.village.domain.chat.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//브로드캐스트 후 DB 저장을 기다리는 메세지
+@Getter
+@AllArgsConstructor
+public class PendingChatMessage {
+    private final Long id;
+    private final Long roomId;
+    private final Long senderId;
+    private final String content;
+    private final long createdAt; // epoch millis
+}
@@ -0,0 +1,53 @@
+package com.sparta.village.domain.chat.util;
+
+import com.sparta.village.domain.chat.dto.HighlightDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+//검색어를 MySQL boolean mode 쿼리로 바꾸고, 결과 메세지에서 검색어 위치를 찾음
+public final class ChatSearchQuery {
+    //ngram_token_size 기본값. 이보다 짧은 검색어는 인덱스로 찾을 수 없음
+    public static final int MIN_TOKEN_LENGTH = 2;
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private ChatSearchQuery() {
+    }
+
+    public static List<String> tokenize(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+"))
+                .filter(token -> token.length() >= MIN_TOKEN_LENGTH)
+                .distinct()
+                .toList();
+    }
+
+    //모든 단어가 들어간 메세지만 찾도록 +"단어" 형태로 만듦 (ngram 에서는 따옴표로 묶어야 단어 순서대로 매칭)
+    public static String toBooleanQuery(List<String> tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (String token : tokens) {
+            sb.append("+\"").append(token).append("\" ");
+        }
+        return sb.toString().trim();
+    }
+
+    public static List<HighlightDto> highlight(String content, List<String> tokens) {
+        String lowerContent = content.toLowerCase(Locale.ROOT);
+        List<HighlightDto> highlights = new ArrayList<>();
+        for (String token : tokens) {
+            String lowerToken = token.toLowerCase(Locale.ROOT);
+            int index = lowerContent.indexOf(lowerToken);
+            while (index >= 0) {
+                highlights.add(new HighlightDto(index, index + token.length()));
+                index = lowerContent.indexOf(lowerToken, index + token.length());
+            }
+        }
+        highlights.sort(Comparator.comparingInt(HighlightDto::getStart));
+        return highlights;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sparta.village.domain.chat.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+//메세지 시간(epoch millis)을 화면용 문자열로 변환. 오늘 보낸 메세지는 시간만, 이전 메세지는 날짜만 표시
+public final class ChatTimeFormatter {
+    public static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private ChatTimeFormatter() {
+    }
+
+    public static String format(long epochMillis) {
+        return format(epochMillis, LocalDate.now(ZONE_ID));
+    }
+
+    //여러 메세지를 변환할 때 오늘 날짜를 한 번만 계산하도록 today 를 받는 버전
+    public static String format(long epochMillis, LocalDate today) {
+        ZonedDateTime dateTime = Instant.ofEpochMilli(epochMillis).atZone(ZONE_ID);
+        return dateTime.toLocalDate().equals(today) ? TIME_FORMATTER.format(dateTime) : DATE_FORMATTER.format(dateTime);
+    }
+}
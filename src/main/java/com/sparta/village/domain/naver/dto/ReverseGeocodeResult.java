@@ -0,0 +1,29 @@
+package com.sparta.village.domain.naver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//네이버 reverse geocode 응답에서 주소 표시에 쓰는 값만 모은 결과. 없는 값은 null
+@Getter
+@AllArgsConstructor
+public class ReverseGeocodeResult {
+    public static final ReverseGeocodeResult EMPTY = new ReverseGeocodeResult(null, null, null, null, null);
+
+    private String area1; // 시/도 (alias 가 없으면 name)
+    private String area2; // 시/군/구
+    private String landName; // 도로명
+    private String landNumber; // 건물 번호 (number1)
+    private String addition; // 건물 이름 (addition0.value)
+
+    //값이 있는 항목만 공백으로 이어서 "경기 성남시 분당구 불정로 6 그린팩토리" 형태로 반환
+    public String toAddress() {
+        return Stream.of(area1, area2, landName, landNumber, addition)
+                .filter(Objects::nonNull)
+                .filter(value -> !value.isBlank())
+                .collect(Collectors.joining(" "));
+    }
+}
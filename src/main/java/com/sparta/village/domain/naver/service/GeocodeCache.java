@@ -0,0 +1,130 @@
+package com.sparta.village.domain.naver.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+//네이버 지도 geocode / reverse geocode 결과 캐시. 노드 메모리(Caffeine) -> Redis -> 네이버 순서로 조회
+//geocode 는 공백/대소문자를 정리한 주소, reverse geocode 는 격자에 맞춘 좌표를 키로 써서 거의 같은 요청도 한 번만 네이버로 보냄
+//map.cache.requests{type, result=local|redis|miss} 로 절약한 호출 수를 확인
+@Slf4j
+@Component
+public class GeocodeCache {
+    private static final String GEOCODE_PREFIX = "map:geocode:";
+    private static final String REVERSE_PREFIX = "map:gc:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, String> localCache;
+    private final Duration redisTtl;
+    //소수점 아래 자릿수. 4 면 약 10m 격자
+    private final int gridScale;
+
+    public GeocodeCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                        @Value("${naver.cache.local-max-size:10000}") long localMaxSize,
+                        @Value("${naver.cache.local-ttl-minutes:10}") long localTtlMinutes,
+                        @Value("${naver.cache.redis-ttl-hours:24}") long redisTtlHours,
+                        @Value("${naver.cache.grid-scale:4}") int gridScale) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.gridScale = gridScale;
+    }
+
+    //loader 에는 정리된 주소가 넘어감
+    public String getGeocode(String address, Function<String, String> loader) {
+        String normalized = normalizeAddress(address);
+        return get("geocode", GEOCODE_PREFIX + normalized, normalized, loader);
+    }
+
+    //loader 에는 격자에 맞춘 좌표가 넘어감. 좌표 형식이 아니면 캐시하지 않고 그대로 요청
+    public String getReverseGeocode(String coords, Function<String, String> loader) {
+        String snapped = snapCoords(coords);
+        if (snapped == null) {
+            counter("reverse", "miss").increment();
+            return loader.apply(coords);
+        }
+        return get("reverse", REVERSE_PREFIX + snapped, snapped, loader);
+    }
+
+    public static String normalizeAddress(String address) {
+        return address.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    //"경도,위도" 를 gridScale 자리로 반올림. 형식이 맞지 않거나 좌표 범위를 벗어나면 null
+    //사용자 입력이므로 double 로 먼저 읽고 범위를 확인한 뒤에 반올림 (1e10000000 같은 값을 BigDecimal 로 펼치지 않도록)
+    public String snapCoords(String coords) {
+        String[] parts = coords.split(",");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            double lng = Double.parseDouble(parts[0].strip());
+            double lat = Double.parseDouble(parts[1].strip());
+            if (!isInRange(lng, 180) || !isInRange(lat, 90)) {
+                return null;
+            }
+            return snap(lng) + "," + snap(lat);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String get(String type, String key, String query, Function<String, String> loader) {
+        String value = localCache.getIfPresent(key);
+        if (value != null) {
+            counter(type, "local").increment();
+            return value;
+        }
+        try {
+            value = redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("Failed to read map cache {} from redis.", key, e);
+        }
+        if (value != null) {
+            counter(type, "redis").increment();
+            localCache.put(key, value);
+            return value;
+        }
+
+        counter(type, "miss").increment();
+        value = loader.apply(query);
+        if (value == null || value.isBlank()) {
+            return value;
+        }
+        localCache.put(key, value);
+        try {
+            redisTemplate.opsForValue().set(key, value, redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to write map cache {} to redis.", key, e);
+        }
+        return value;
+    }
+
+    private static boolean isInRange(double value, double limit) {
+        return Double.isFinite(value) && value >= -limit && value <= limit;
+    }
+
+    private String snap(double value) {
+        return BigDecimal.valueOf(value).setScale(gridScale, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private Counter counter(String type, String result) {
+        return Counter.builder("map.cache.requests").tag("type", type).tag("result", result).register(meterRegistry);
+    }
+}
@@ -1,17 +1,12 @@
 package com.sparta.village.domain.naver.service;
 
+import com.sparta.village.domain.naver.util.ReverseGeocodeParser;
 import lombok.RequiredArgsConstructor;
-import org.apache.coyote.Response;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
-
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-
 @Service
 @RequiredArgsConstructor
 public class NaverMapService {
@@ -23,16 +18,23 @@ public class NaverMapService {
     @Value("${naver.map.client-secret}")
     private String clientSecret;
 
-    //REST 통신을 위한 Rest Template 객체
+    //네이버 지도 API 주소. 테스트에서는 로컬 stub 서버로 바꿔서 사용
+    @Value("${naver.map.base-url:https://naveropenapi.apigw.ntruss.com}")
+    private String baseUrl;
+
+    //REST 통신을 위한 Rest Template 객체 (HttpClientConfig 의 커넥션 풀 공유)
     private final RestTemplate restTemplate;
+    private final GeocodeCache geocodeCache;
 
-    //NaverMapService 생성자에서 Rest Template 객체를 초기화
-    public NaverMapService() {
-        this.restTemplate = new RestTemplate();
+    public String geocode(String address) {
+        return geocodeCache.getGeocode(address, this::requestGeocode);
     }
 
-    @Transactional
-    public String geocode(String address) {
+    public String reverseGeocode(String coords) {
+        return geocodeCache.getReverseGeocode(coords, this::requestReverseGeocode);
+    }
+
+    private String requestGeocode(String address) {
         //Http 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -40,16 +42,15 @@ public class NaverMapService {
         headers.set("X-NCP-APIGW-API-KEY", clientSecret);
         HttpEntity<String> entity = new HttpEntity<>("parameters", headers);
 
-        //네이버 지도 API 호출 URL 생성
-        String url = "https://naveropenapi.apigw.ntruss.com/map-geocode/v2/geocode?query=" + address;
+        //네이버 지도 API 호출 URL 생성. 메트릭에 주소별로 따로 남지 않도록 템플릿으로 넘김
+        String url = baseUrl + "/map-geocode/v2/geocode?query={query}";
         //Rest Template를 사용해 네이버 지도 API에 요청을 보내고 응답을 받음
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class, address);
         //응답을 반환
         return response.getBody();
     }
 
-    @Transactional
-    public String reverseGeocode(String coords) {
+    private String requestReverseGeocode(String coords) {
         //Http 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -58,25 +59,11 @@ public class NaverMapService {
         HttpEntity<String> entity = new HttpEntity<>("parameters", headers);
 
         //네이버 지도 API 호출 URL 생성
-        String url = "https://naveropenapi.apigw.ntruss.com/map-reversegeocode/v2/gc?coords=" + coords + "&output=json&orders=roadaddr";
+        String url = baseUrl + "/map-reversegeocode/v2/gc?coords={coords}&output=json&orders=roadaddr";
         //Rest Template를 사용해 네이버 지도 API에 요청을 보내고 응답을 받음
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-        return findValueByKey(response.getBody(), "\"area1\":\\s*\\{(?:[^{}]*|\\{(?:[^{}]*|\\{[^}]*\\})*\\})*\"alias\":\\s*\"(.*?)\"") + " " +
-                findValueByKey(response.getBody(), "\"area2\":\\s*\\{[^}]*\"name\":\\s*\"(.*?)\"") + " " +
-                findValueByKey(response.getBody(), "\"land\":\\s*\\{(?:[^{}]*\\{[^}]*\\})*[^}]*\"name\":\\s*\"(.*?)\"") + " " +
-                findValueByKey(response.getBody(), "\"land\":\\s*\\{[^}]*\"number1\":\\s*\"(.*?)\"") + " " +
-                findValueByKey(response.getBody(), "\"addition0\":\\s*\\{[^}]*\"value\":\\s*\"(.*?)\"");
-    }
-
-    public static String findValueByKey(String jsonString, String regex) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(jsonString);
-
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class, coords);
 
-        return null;
+        //응답 JSON 을 한 번만 읽어서 "시/도 시/군/구 도로명 번호 건물명" 형태로 반환
+        return ReverseGeocodeParser.parse(response.getBody()).toAddress();
     }
 }
@@ -0,0 +1,145 @@
+package com.sparta.village.domain.naver.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.sparta.village.domain.naver.dto.ReverseGeocodeResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+//네이버 reverse geocode 응답을 Jackson 스트리밍 파서로 한 번만 읽어서 필요한 값만 꺼냄
+//results 의 첫 번째 항목에서 region.area1/area2, land.name/number1/addition0 만 읽고 나머지는 건너뜀
+@Slf4j
+public final class ReverseGeocodeParser {
+    //JsonFactory 는 thread-safe 라 공유해서 사용
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ReverseGeocodeParser() {
+    }
+
+    //응답이 비었거나 JSON 이 아니면 EMPTY
+    public static ReverseGeocodeResult parse(String json) {
+        if (json == null || json.isBlank()) {
+            return ReverseGeocodeResult.EMPTY;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return ReverseGeocodeResult.EMPTY;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    return parser.nextToken() == JsonToken.START_OBJECT ? readResult(parser) : ReverseGeocodeResult.EMPTY;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to parse reverse geocode response.", e);
+        }
+        return ReverseGeocodeResult.EMPTY;
+    }
+
+    private static ReverseGeocodeResult readResult(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        readObject(parser, (field, p) -> {
+            if ("region".equals(field)) {
+                readRegion(p, builder);
+            } else if ("land".equals(field)) {
+                readLand(p, builder);
+            } else {
+                p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private static void readRegion(JsonParser parser, Builder builder) throws IOException {
+        readObject(parser, (field, p) -> {
+            if ("area1".equals(field)) {
+                readObject(p, (areaField, ap) -> {
+                    if ("name".equals(areaField)) {
+                        builder.area1Name = text(ap);
+                    } else if ("alias".equals(areaField)) {
+                        builder.area1Alias = text(ap);
+                    } else {
+                        ap.skipChildren();
+                    }
+                });
+            } else if ("area2".equals(field)) {
+                readObject(p, (areaField, ap) -> {
+                    if ("name".equals(areaField)) {
+                        builder.area2 = text(ap);
+                    } else {
+                        ap.skipChildren();
+                    }
+                });
+            } else {
+                p.skipChildren();
+            }
+        });
+    }
+
+    private static void readLand(JsonParser parser, Builder builder) throws IOException {
+        readObject(parser, (field, p) -> {
+            if ("name".equals(field)) {
+                builder.landName = text(p);
+            } else if ("number1".equals(field)) {
+                builder.landNumber = text(p);
+            } else if ("addition0".equals(field)) {
+                readObject(p, (additionField, ap) -> {
+                    if ("value".equals(additionField)) {
+                        builder.addition = text(ap);
+                    } else {
+                        ap.skipChildren();
+                    }
+                });
+            } else {
+                p.skipChildren();
+            }
+        });
+    }
+
+    //현재 토큰이 START_OBJECT 일 때 END_OBJECT 까지 필드마다 handler 호출. 객체가 아니면 값을 건너뜀
+    //handler 는 필드 값을 끝까지 읽거나 skipChildren 으로 건너뛰어야 함
+    private static void readObject(JsonParser parser, FieldHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            handler.handle(field, parser);
+        }
+    }
+
+    //문자열/숫자 값은 문자열로, 객체/배열이면 건너뛰고 null
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle(String field, JsonParser parser) throws IOException;
+    }
+
+    private static class Builder {
+        private String area1Name;
+        private String area1Alias;
+        private String area2;
+        private String landName;
+        private String landNumber;
+        private String addition;
+
+        private ReverseGeocodeResult build() {
+            String area1 = area1Alias == null || area1Alias.isBlank() ? area1Name : area1Alias;
+            return new ReverseGeocodeResult(area1, area2, landName, landNumber, addition);
+        }
+    }
+}
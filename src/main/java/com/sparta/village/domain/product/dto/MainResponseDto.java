@@ -14,6 +14,7 @@ public class MainResponseDto {
     private List<ProductResponseDto> randomProduct;
     private int zzimCount;
     private List<ProductResponseDto> latestProduct;
-    private Integer visitorCount;
+    private long visitorCount; // 누적 방문 수 (마지막 flush 기준)
+    private long uniqueVisitorCount; // 오늘 순 방문자 수 (HyperLogLog 근사값)
 
 }
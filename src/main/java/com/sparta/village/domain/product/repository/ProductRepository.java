@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 
 
 
@@ -17,6 +18,9 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findAllByUser(User user);
     boolean existsByIdAndUserId(Long id, Long userId);
 
+    @Query(value = "select p.user.id from Product p where p.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
     List<Product> findByTitleContainingAndLocationContainingOrderByIdDesc(String title, String location);
     List<Product> findByTitleContainingOrderByIdDesc (String title);
     List<Product> findByLocationContainingOrderByIdDesc(String location);
@@ -8,14 +8,13 @@ import com.sparta.village.domain.product.repository.SearchQueryRepository;
 import com.sparta.village.domain.reservation.service.ReservationService;
 import com.sparta.village.domain.user.entity.User;
 import com.sparta.village.domain.user.service.UserService;
-import com.sparta.village.domain.visitor.repository.VisitorCountRepository;
+import com.sparta.village.domain.visitor.service.VisitorCounter;
 import com.sparta.village.domain.zzim.service.ZzimService;
 import com.sparta.village.global.exception.CustomException;
 import com.sparta.village.global.exception.ErrorCode;
 import com.sparta.village.global.exception.ResponseMessage;
 import com.sparta.village.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,19 +25,17 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductRepository productRepository;
-    private final VisitorCountRepository visitorCountRepository;
     private final SearchQueryRepository searchQueryRepository;
     private final UserService userService;
     private final ZzimService zzimService;
     private final ReservationService reservationService;
     private final ImageStorageService imageStorageService;
-    private final RedisTemplate<String, Integer> redisTemplate;
+    private final VisitorCounter visitorCounter;
 
     @Transactional
     public ResponseEntity<ResponseMessage> getMainPage(UserDetailsImpl userDetails) {
 //        double beforeTime = System.currentTimeMillis(); //코드 실행 전에 시간 받아오기
-        redisTemplate.opsForValue().increment("visitor_count",1);
-        Long userId = userDetails == null ? null : userDetails.getUser().getId();
+        Long userId = userDetails == null ? null : userDetails.getUserId();
 
         Object[] randomPopularProduct = productRepository.getOnePopularProduct(userId).get(0);
         Long randomPopularProductId = randomPopularProduct == null ? null : Long.parseLong(randomPopularProduct[0].toString());
@@ -56,7 +53,7 @@ public class ProductService {
 //        double afterTime = System.currentTimeMillis(); // 코드 실행 후에 시간 받아오기
 //        double secDiffTime = (afterTime - beforeTime)/1000; //두 시간에 차 계산
 //        System.out.println("시간차이(m) : "+secDiffTime);
-        return ResponseMessage.SuccessResponse("메인페이지 조회되었습니다.", new MainResponseDto(dealList, randomProduct, zzimService.getZzimCount(userId), latestProduct, visitorCountRepository.findVisitorCountById()));
+        return ResponseMessage.SuccessResponse("메인페이지 조회되었습니다.", new MainResponseDto(dealList, randomProduct, zzimService.getZzimCount(userId), latestProduct, visitorCounter.getTotalVisitorCount(), visitorCounter.getUniqueVisitorCount()));
     }
 
     @Transactional
@@ -103,7 +100,7 @@ public class ProductService {
     @Transactional
     public ResponseEntity<ResponseMessage> detailProduct(UserDetailsImpl userDetails, Long id) {
         double beforeTime = System.currentTimeMillis();
-        User user = userDetails == null ? null : userDetails.getUser();
+        User user = userDetails == null ? null : userDetails.getUserReference();
         Long userId = user == null ? null : user.getId();
         List<Object[]> productDetailList = productRepository.findProductDetailList(id, userId);
         ProductDetailResponseDto productDetailResponseDto = new ProductDetailResponseDto(
@@ -131,7 +128,7 @@ public class ProductService {
 
     @Transactional(readOnly = true)
     public ResponseEntity<ResponseMessage> searchProductList(UserDetailsImpl userDetails, String title, String location, Long lastId, int size) {
-        Long userId = userDetails == null ? null : userDetails.getUser().getId();
+        Long userId = userDetails == null ? null : userDetails.getUserId();
         List<ProductResponseDto> productList = searchQueryRepository.searchProduct(userId, title, location, lastId, size);
         return ResponseMessage.SuccessResponse("검색 조회가 되었습니다.", new SearchResponseDto(productList, productList.size() < size));
     }
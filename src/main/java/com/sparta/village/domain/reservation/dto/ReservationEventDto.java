@@ -0,0 +1,20 @@
+package com.sparta.village.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationEventDto {
+    private String type; // reserved, statusChanged, canceled
+    private Long reservationId;
+    private Long productId;
+    private String status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String nickname; // 이벤트를 발생시킨 유저
+}
@@ -0,0 +1,20 @@
+package com.sparta.village.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationListDto {
+    private Long id;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+    private Long userId;
+    private String nickname;
+    private String profile;
+}
@@ -19,13 +19,14 @@ import java.time.LocalDate;
 @Setter
 @Where(clause = "is_deleted = false")
 @SQLDelete(sql = "update reservation set is_deleted = true where id = ?")
+@Table(indexes = @Index(name = "idx_reservation_status_id", columnList = "status, id"))
 public class Reservation extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
-    private String status; //waiting, accepted, rejected, returned
+    private String status; //waiting, accepted, rejected, returned, expired
 
     @Column(nullable = false)
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
@@ -4,22 +4,25 @@ package com.sparta.village.domain.reservation.repository;
 import com.sparta.village.domain.product.entity.Product;
 
 import com.sparta.village.domain.reservation.dto.ReservationCountResponseDto;
+import com.sparta.village.domain.reservation.dto.ReservationListDto;
 import com.sparta.village.domain.reservation.dto.UserLevelDto;
 import com.sparta.village.domain.reservation.entity.Reservation;
 import com.sparta.village.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    //예약 하려는 날짜가 기존 날짜와 겹치는지 체크. 겹치면 true 반환.
-    @Query(value = "select count(r) > 0 from Reservation r where r.product = :product " +
+    //예약 하려는 날짜가 기존 날짜와 겹치는지 체크. 겹치면 true 반환. 만료된 예약은 제외.
+    @Query(value = "select count(r) > 0 from Reservation r where r.product = :product and r.status <> 'expired' " +
             "and (r.startDate <= :endDate and r.endDate >= :startDate)")
     boolean checkOverlapDateByProduct(@Param("product") Product product, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
@@ -43,7 +46,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query(value = "SELECT new com.sparta.village.domain.reservation.dto.ReservationCountResponseDto(p.id, COUNT(*)) FROM Reservation r LEFT JOIN Product p ON r.product.id = p.id WHERE r.status = 'returned' and p.isDeleted = false group by r.product order by COUNT(*) DESC")
     List<ReservationCountResponseDto> countReservationWithProduct();
 
-    List<Reservation> findByProductId(Long productId);
+    //상세페이지 예약 목록에 필요한 컬럼만 한 번의 쿼리로 조회 (EAGER 연관관계 로딩 방지)
+    @Query(value = "select new com.sparta.village.domain.reservation.dto.ReservationListDto(r.id, r.startDate, r.endDate, r.status, u.id, u.nickname, u.profile) " +
+            "from Reservation r join r.user u " +
+            "where r.product.id = :productId")
+    List<ReservationListDto> findReservationListByProductId(@Param("productId") Long productId);
 
     List<Reservation> findByUser(User user);
 
@@ -53,4 +60,13 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     @Query(value = "select count(*) from reservation r left join product p on r.product_id = p.id where p.user_id = :user_id and r.status = :status and p.is_deleted = false", nativeQuery = true)
     int findReservationCountByUserAndStatus(@Param("user_id") Long id, @Param("status") String status);
+
+    //만료 대상 waiting 예약 id를 lastId 이후부터 id 순으로 조회 (keyset 페이지네이션)
+    @Query(value = "select r.id from Reservation r where r.status = 'waiting' and r.id > :lastId " +
+            "and (r.startDate < :today or r.createdAt < :createdBefore) order by r.id")
+    List<Long> findExpirableWaitingIds(@Param("lastId") Long lastId, @Param("today") LocalDate today, @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying
+    @Query(value = "update Reservation r set r.status = 'expired' where r.id in :ids and r.status = 'waiting'")
+    int expireWaitingByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,64 @@
+package com.sparta.village.domain.reservation.scheduler;
+
+import com.sparta.village.domain.reservation.repository.ReservationRepository;
+import com.sparta.village.domain.reservation.service.ReservationService;
+import com.sparta.village.global.scheduler.KeysetChunkJob;
+import com.sparta.village.global.scheduler.SchedulerLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+public class ReservationExpiryScheduler {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final String JOB_NAME = "reservation-expiry";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST = Duration.ofSeconds(30);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final SchedulerLock schedulerLock;
+    private final KeysetChunkJob expiryJob;
+
+    //한 번에 만료 처리할 예약 수
+    @Value("${reservation.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    //시작일이 지나지 않았더라도 이 기간 이상 waiting 상태면 만료
+    @Value("${reservation.expiry.max-age-days:7}")
+    private long maxAgeDays;
+
+    public ReservationExpiryScheduler(ReservationRepository reservationRepository, ReservationService reservationService, SchedulerLock schedulerLock,
+                                      MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.schedulerLock = schedulerLock;
+        this.expiryJob = new KeysetChunkJob(JOB_NAME, meterRegistry,
+                "reservation.expiry.expired", "Waiting reservations moved to expired",
+                "reservation.expiry.runs", "Reservation expiry job executions");
+    }
+
+    @Scheduled(cron = "${reservation.expiry.cron:0 0 * * * *}")
+    public void expireWaitingReservations() {
+        schedulerLock.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, this::expire);
+    }
+
+    private void expire() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        LocalDateTime createdBefore = LocalDateTime.now(ZONE_ID).minusDays(maxAgeDays);
+        int total = expiryJob.process(chunkSize,
+                lastId -> reservationRepository.findExpirableWaitingIds(lastId, today, createdBefore, PageRequest.of(0, chunkSize)),
+                reservationService::expireWaitingReservations);
+        expiryJob.recordRun();
+        log.info("Expired {} waiting reservations.", total);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparta.village.domain.reservation.service;
+
+import com.sparta.village.domain.reservation.dto.ReservationEventDto;
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.global.websocket.MessageBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+    private final MessageBroadcaster messageBroadcaster;
+
+    //예약 이벤트를 받는 유저별 구독 경로
+    public static String destinationOf(Long userId) {
+        return "/sub/user/" + userId + "/reservation";
+    }
+
+    //트랜잭션이 커밋된 뒤에 전송해서 롤백된 변경이 알림으로 나가지 않도록 함
+    public void publish(User receiver, ReservationEventDto event) {
+        if (receiver == null || receiver.getId() == null) {
+            return;
+        }
+        String destination = destinationOf(receiver.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messageBroadcaster.broadcast(destination, event);
+                }
+            });
+            return;
+        }
+        messageBroadcaster.broadcast(destination, event);
+    }
+}
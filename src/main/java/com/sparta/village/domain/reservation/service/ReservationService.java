@@ -26,6 +26,7 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final ProductRepository productRepository;
     private final UserService userService;
+    private final ReservationEventPublisher reservationEventPublisher;
 
     @Transactional
     public ResponseEntity<ResponseMessage> reserve(Long productId, ReservationRequestDto requestDto, User user) {
@@ -33,7 +34,8 @@ public class ReservationService {
         if (reservationRepository.checkOverlapDateByProduct(product, requestDto.getStartDate(), requestDto.getEndDate())) {
             throw new CustomException(ErrorCode.DUPLICATE_RESERVATION_DATE);
         }
-        reservationRepository.saveAndFlush(new Reservation(product, user, requestDto));
+        Reservation reservation = reservationRepository.saveAndFlush(new Reservation(product, user, requestDto));
+        reservationEventPublisher.publish(product.getUser(), toEvent("reserved", reservation, "waiting", user));
         return ResponseMessage.SuccessResponse("예약 되었습니다.", "");
     }
 
@@ -44,6 +46,7 @@ public class ReservationService {
             throw new CustomException(ErrorCode.NOT_AUTHOR);
         }
         reservationRepository.deleteById(id);
+        reservationEventPublisher.publish(reservation.getProduct().getUser(), toEvent("canceled", reservation, reservation.getStatus(), user));
         return ResponseMessage.SuccessResponse("예약 취소되었습니다.", "");
     }
 
@@ -54,6 +57,7 @@ public class ReservationService {
             throw new CustomException(ErrorCode.NOT_SELLER);
         }
         reservationRepository.updateStatus(reservation.getId(), requestDto.getStatus());
+        reservationEventPublisher.publish(reservation.getUser(), toEvent("statusChanged", reservation, requestDto.getStatus(), user));
         checkAndUpdateProfile(user);
         return ResponseMessage.SuccessResponse("상태 변경되었습니다.", "");
     }
@@ -62,15 +66,21 @@ public class ReservationService {
         return reservationRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
     }
 
+    private ReservationEventDto toEvent(String type, Reservation reservation, String status, User actor) {
+        Long productId = reservation.getProduct() == null ? null : reservation.getProduct().getId();
+        return new ReservationEventDto(type, reservation.getId(), productId, status, reservation.getStartDate(), reservation.getEndDate(), actor.getNickname());
+    }
+
     private boolean checkReservationOwner(Reservation reservation, User user) {
         return user != null && reservation.getUser().getId().equals(user.getId()) && reservation.getStatus().equals("waiting");
     }
 
 
     public List<ReservationResponseDto> getReservationList(User user, Long id){
-        return reservationRepository.findByProductId(id).stream()
+        Long userId = user == null ? null : user.getId();
+        return reservationRepository.findReservationListByProductId(id).stream()
                 .map(r -> new ReservationResponseDto(r.getId(), r.getStartDate(), r.getEndDate(), r.getStatus(),
-                        r.getUser().getNickname(), r.getUser().getProfile(), checkReservationOwner(r, user))).toList();
+                        r.getNickname(), r.getProfile(), r.getUserId().equals(userId) && r.getStatus().equals("waiting"))).toList();
     }
 
     public List<AcceptReservationResponseDto> getAcceptedReservationList() {
@@ -105,6 +115,12 @@ public class ReservationService {
     public int getReservationCountByUser(User owner, String status) {
         return reservationRepository.findReservationCountByUserAndStatus(owner.getId(), status);
     }
+
+    //청크 단위로 트랜잭션을 나눠서 락을 오래 잡지 않도록 함
+    @Transactional
+    public int expireWaitingReservations(List<Long> ids) {
+        return ids.isEmpty() ? 0 : reservationRepository.expireWaitingByIds(ids);
+    }
 }
 
 
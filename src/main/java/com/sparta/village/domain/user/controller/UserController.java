@@ -3,15 +3,18 @@ package com.sparta.village.domain.user.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.sparta.village.domain.image.repository.ImageRepository;
 import com.sparta.village.domain.user.dto.NicknameRequestDto;
+import com.sparta.village.domain.user.service.AuthTokenService;
 import com.sparta.village.domain.user.service.KakaoUserService;
 import com.sparta.village.domain.user.service.UserService;
 import com.sparta.village.global.exception.ResponseMessage;
+import com.sparta.village.global.jwt.JwtUtil;
 import com.sparta.village.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 
@@ -23,12 +26,24 @@ public class UserController {
 
     private final UserService userService;
 
+    private final AuthTokenService authTokenService;
+
 
     @GetMapping("/users/login")
     public ResponseEntity<ResponseMessage> kakaoLogin(@RequestParam String code, HttpServletResponse response) throws JsonProcessingException {
         return kakaoUserService.kakaoLogin(code, response);
     }
 
+    @PostMapping("/users/token")
+    public ResponseEntity<ResponseMessage> refreshToken(@RequestHeader(value = JwtUtil.REFRESH_TOKEN_HEADER, required = false) String refreshToken, HttpServletResponse response) {
+        return authTokenService.refresh(refreshToken, response);
+    }
+
+    @PostMapping("/users/logout")
+    public ResponseEntity<ResponseMessage> logout(HttpServletRequest request) {
+        return authTokenService.logout(request);
+    }
+
     @PatchMapping("/users")
     public ResponseEntity<ResponseMessage> updateNickname(@RequestBody NicknameRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
         return userService.updateNickname(requestDto.getNickname(), userDetails.getUser());
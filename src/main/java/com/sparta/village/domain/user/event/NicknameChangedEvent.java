@@ -0,0 +1,14 @@
+package com.sparta.village.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//닉네임이 바뀐 뒤 발행. 닉네임을 키로 쓰는 다른 도메인의 캐시가 직접 정리하도록 함
+@Getter
+@AllArgsConstructor
+public class NicknameChangedEvent {
+    private final Long userId;
+    private final Long kakaoId;
+    private final String oldNickname;
+    private final String newNickname;
+}
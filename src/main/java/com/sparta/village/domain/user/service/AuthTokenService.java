@@ -0,0 +1,65 @@
+package com.sparta.village.domain.user.service;
+
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.repository.UserRepository;
+import com.sparta.village.global.exception.CustomException;
+import com.sparta.village.global.exception.ErrorCode;
+import com.sparta.village.global.exception.ResponseMessage;
+import com.sparta.village.global.jwt.JwtUtil;
+import com.sparta.village.global.jwt.RefreshTokenStore;
+import com.sparta.village.global.jwt.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Service
+@RequiredArgsConstructor
+public class AuthTokenService {
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserRepository userRepository;
+
+    //access token 은 Authorization, refresh token 은 Refresh-Token 헤더로 내려줌
+    public void issueTokens(User user, HttpServletResponse response) {
+        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, jwtUtil.createToken(user));
+        response.addHeader(JwtUtil.REFRESH_TOKEN_HEADER, refreshTokenStore.issue(user.getKakaoId()));
+    }
+
+    //refresh token 은 한 번 쓰면 폐기되고 새 토큰 쌍을 발급
+    @Transactional(readOnly = true)
+    public ResponseEntity<ResponseMessage> refresh(String refreshToken, HttpServletResponse response) {
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        Long kakaoId = refreshTokenStore.consume(refreshToken);
+        if (kakaoId == null) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        User user = userRepository.findByKakaoId(kakaoId).orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+        issueTokens(user, response);
+        return ResponseMessage.SuccessResponse("토큰이 재발급되었습니다.", "");
+    }
+
+    //refresh token 은 access token 상태와 상관없이 지우고, 아직 유효한 access token 은 만료될 때까지 폐기 목록에 올림
+    public ResponseEntity<ResponseMessage> logout(HttpServletRequest request) {
+        String refreshToken = request.getHeader(JwtUtil.REFRESH_TOKEN_HEADER);
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenStore.revoke(refreshToken);
+        }
+        String accessToken = jwtUtil.resolveToken(request);
+        if (accessToken != null) {
+            Claims claims = jwtUtil.parseClaims(accessToken);
+            if (claims != null) {
+                tokenRevocationList.revoke(claims.getId(), claims.getExpiration());
+            }
+        }
+        return ResponseMessage.SuccessResponse("로그아웃 되었습니다.", "");
+    }
+}
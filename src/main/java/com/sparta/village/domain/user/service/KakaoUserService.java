@@ -10,7 +10,6 @@ import com.sparta.village.domain.user.repository.UserRepository;
 import com.sparta.village.global.exception.CustomException;
 import com.sparta.village.global.exception.ErrorCode;
 import com.sparta.village.global.exception.ResponseMessage;
-import com.sparta.village.global.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,7 +17,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.servlet.http.HttpServletResponse;
 import java.util.UUID;
@@ -28,8 +26,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class KakaoUserService {
 
-    private final JwtUtil jwtUtil;
+    private final AuthTokenService authTokenService;
     private final UserRepository userRepository;
+    //HttpClientConfig 의 커넥션 풀을 공유하는 RestTemplate
+    private final RestTemplate restTemplate;
 
     @Value("${kakao.clientId}")
     String clientId;
@@ -37,14 +37,19 @@ public class KakaoUserService {
     @Value("${redirect_url}")
     String redirectUrl;
 
-    @Transactional
+    @Value("${kakao.auth-url:https://kauth.kakao.com}")
+    String authUrl;
+
+    @Value("${kakao.api-url:https://kapi.kakao.com}")
+    String apiUrl;
+
+    //카카오 API 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 호출하고, 사용자 저장만 repository 트랜잭션으로 처리
     public ResponseEntity<ResponseMessage> kakaoLogin(String code, HttpServletResponse response) throws JsonProcessingException {
         String accessToken = requestAccessToken(code);
         UserInfoDto userInfo = fetchKakaoUserInfo(accessToken);
-        String nickname = registerOrUpdateKakaoUser(userInfo);
+        User user = registerOrUpdateKakaoUser(userInfo);
 
-        String jwtToken = jwtUtil.createToken(nickname, userInfo.getKakaoId());
-        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, jwtToken);
+        authTokenService.issueTokens(user, response);
 
         return ResponseMessage.SuccessResponse("로그인 성공되었습니다.", "");
     }
@@ -54,20 +59,15 @@ public class KakaoUserService {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<?> request = new HttpEntity<>(headers);
-        RestTemplate restTemplate = new RestTemplate();
 
-        String url = UriComponentsBuilder.fromHttpUrl("https://kauth.kakao.com/oauth/token")
-                .queryParam("grant_type", "authorization_code")
-                .queryParam("client_id", clientId)
-                .queryParam("redirect_uri", redirectUrl)
-                .queryParam("code", code)
-                .toUriString();
+        String url = authUrl + "/oauth/token?grant_type=authorization_code&client_id={clientId}&redirect_uri={redirectUri}&code={code}";
 
         ResponseEntity<String> response = restTemplate.exchange(
                 url,
                 HttpMethod.POST,
                 request,
-                String.class
+                String.class,
+                clientId, redirectUrl, code
         );
 
         ObjectMapper objectMapper = new ObjectMapper();
@@ -81,9 +81,8 @@ public class KakaoUserService {
         headers.setBearerAuth(accessToken);
 
         HttpEntity<?> request = new HttpEntity<>(headers);
-        RestTemplate restTemplate = new RestTemplate();
 
-        String url = "https://kapi.kakao.com/v2/user/me";
+        String url = apiUrl + "/v2/user/me";
 
         ResponseEntity<String> response = restTemplate.exchange(
                 url,
@@ -100,23 +99,19 @@ public class KakaoUserService {
         return new UserInfoDto(id);
     }
 
-    private String registerOrUpdateKakaoUser(UserInfoDto kakaoUserInfo) {
+    private User registerOrUpdateKakaoUser(UserInfoDto kakaoUserInfo) {
         User user = userRepository.findByKakaoId(kakaoUserInfo.getKakaoId()).orElse(null);
-        String nickname = "";
         if (user == null) {
-            nickname = UUID.randomUUID().toString().substring(0, 8);
-            userRepository.save(new User(kakaoUserInfo.getKakaoId(), nickname, "https://s3-village-image.s3.ap-northeast-2.amazonaws.com/profile1.png", UserRoleEnum.USER));
-        } else {
-            nickname = user.getNickname();
+            String nickname = UUID.randomUUID().toString().substring(0, 8);
+            user = userRepository.save(new User(kakaoUserInfo.getKakaoId(), nickname, "https://s3-village-image.s3.ap-northeast-2.amazonaws.com/profile1.png", UserRoleEnum.USER));
         }
-        return nickname;
+        return user;
     }
 
     @Transactional
     public ResponseEntity<ResponseMessage> testLogin(String nickname, HttpServletResponse response) {
         User user = userRepository.findByNickname(nickname).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        String jwtToken = jwtUtil.createToken(nickname, user.getKakaoId());
-        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, jwtToken);
+        authTokenService.issueTokens(user, response);
 
         return ResponseMessage.SuccessResponse("로그인 성공되었습니다.", user.getNickname());
     }
@@ -10,6 +10,7 @@ import com.sparta.village.domain.reservation.entity.Reservation;
 import com.sparta.village.domain.reservation.repository.ReservationRepository;
 import com.sparta.village.domain.user.dto.*;
 import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.event.NicknameChangedEvent;
 import com.sparta.village.domain.user.repository.UserRepository;
 import com.sparta.village.domain.zzim.entity.Zzim;
 import com.sparta.village.domain.zzim.repository.ZzimRepository;
@@ -18,7 +19,9 @@ import com.sparta.village.global.exception.CustomException;
 import com.sparta.village.global.exception.ErrorCode;
 import com.sparta.village.global.exception.ResponseMessage;
 import com.sparta.village.global.security.UserDetailsImpl;
+import com.sparta.village.global.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ResponseEntity<ResponseMessage> updateNickname(String newNickname, User user) {
@@ -41,8 +46,11 @@ public class UserService {
         if (userRepository.findByNickname(newNickname).isPresent()) {
             throw new CustomException(ErrorCode.DUPLICATE_NICKNAME);
         }
+        String oldNickname = user.getNickname();
         user.updateNickname(newNickname);
         userRepository.save(user);
+        userDetailsService.evict(user.getKakaoId());
+        eventPublisher.publishEvent(new NicknameChangedEvent(user.getId(), user.getKakaoId(), oldNickname, newNickname));
         return ResponseMessage.SuccessResponse("변경 완료되었습니다.",new UserResponseDto(user.getProfile(), user.getNickname()));
     }
 
@@ -87,6 +95,7 @@ public class UserService {
         if (!user.getProfile().equals(profile)) {
             user.updateProfile(profile);
             userRepository.saveAndFlush(user);
+            userDetailsService.evict(user.getKakaoId());
         }
     }
 
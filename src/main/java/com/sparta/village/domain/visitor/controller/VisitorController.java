@@ -0,0 +1,27 @@
+package com.sparta.village.domain.visitor.controller;
+
+import com.sparta.village.domain.visitor.service.VisitorStatService;
+import com.sparta.village.global.exception.CustomException;
+import com.sparta.village.global.exception.ErrorCode;
+import com.sparta.village.global.exception.ResponseMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class VisitorController {
+    private final VisitorStatService visitorStatService;
+
+    //시간별은 Redis 버킷이 남아 있는 최근 72시간까지, 일별은 최대 1년
+    @GetMapping("/visitors/stats")
+    public ResponseEntity<ResponseMessage> getStats(@RequestParam(value = "hours", defaultValue = "24") int hours,
+                                                    @RequestParam(value = "days", defaultValue = "7") int days) {
+        if (hours < 1 || hours > 72 || days < 1 || days > 366) {
+            throw new CustomException(ErrorCode.BAD_PARAMETER);
+        }
+        return visitorStatService.getStats(hours, days);
+    }
+}
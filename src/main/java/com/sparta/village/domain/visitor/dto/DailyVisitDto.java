@@ -0,0 +1,16 @@
+package com.sparta.village.domain.visitor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyVisitDto {
+    private LocalDate date;
+    private long visitCount;
+    private long uniqueVisitorCount;
+}
@@ -0,0 +1,15 @@
+package com.sparta.village.domain.visitor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HourlyVisitDto {
+    private LocalDateTime hour; // 해당 시간의 시작 (Asia/Seoul)
+    private long visitCount;
+}
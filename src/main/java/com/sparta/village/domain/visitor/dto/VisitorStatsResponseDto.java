@@ -0,0 +1,16 @@
+package com.sparta.village.domain.visitor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VisitorStatsResponseDto {
+    private long totalVisitorCount;
+    private List<HourlyVisitDto> hourly;
+    private List<DailyVisitDto> daily;
+}
@@ -0,0 +1,36 @@
+package com.sparta.village.domain.visitor.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+//Redis 의 시간별 방문 수를 하루 단위로 합친 기록
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_visitor_daily_stat_stat_date", columnNames = "stat_date"))
+public class VisitorDailyStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long visitCount;
+
+    @Column(nullable = false)
+    private long uniqueVisitorCount;
+
+    public VisitorDailyStat(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public void updateCounts(long visitCount, long uniqueVisitorCount) {
+        this.visitCount = visitCount;
+        this.uniqueVisitorCount = uniqueVisitorCount;
+    }
+}
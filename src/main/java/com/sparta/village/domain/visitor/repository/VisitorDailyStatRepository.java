@@ -0,0 +1,14 @@
+package com.sparta.village.domain.visitor.repository;
+
+import com.sparta.village.domain.visitor.entity.VisitorDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface VisitorDailyStatRepository extends JpaRepository<VisitorDailyStat, Long> {
+    Optional<VisitorDailyStat> findByStatDate(LocalDate statDate);
+
+    List<VisitorDailyStat> findByStatDateBetweenOrderByStatDate(LocalDate from, LocalDate to);
+}
@@ -2,32 +2,54 @@ package com.sparta.village.domain.visitor.scheduler;
 
 import com.sparta.village.domain.visitor.entity.Visitor;
 import com.sparta.village.domain.visitor.repository.VisitorCountRepository;
+import com.sparta.village.domain.visitor.service.VisitorCounter;
+import com.sparta.village.domain.visitor.service.VisitorStatService;
+import com.sparta.village.global.scheduler.SchedulerLock;
 import lombok.RequiredArgsConstructor;
-import org.apache.logging.log4j.LogManager;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.logging.Logger;
+import java.time.Duration;
+import java.time.LocalDate;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class VisitorCountScheduler {
-    private static final Logger logger = Logger.getLogger(VisitorCountScheduler.class.getName());
+    private static final String JOB_NAME = "visitor-count";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(9);
+    private static final Duration LOCK_AT_LEAST = Duration.ofSeconds(30);
 
     private final RedisTemplate<String, Integer> redisTemplate;
     private final VisitorCountRepository visitorCountRepository;
+    private final VisitorStatService visitorStatService;
+    private final SchedulerLock schedulerLock;
 
     @Scheduled(cron = "0 */10 * * * *")
     public void saveVisitorCountToDb() {
+        schedulerLock.run(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST, this::persist);
+    }
+
+    private void persist() {
         try {
-            Visitor visitor = visitorCountRepository.findById(1L).orElseGet(() -> new Visitor(redisTemplate.opsForValue().get("visitor_count")));
-            visitor.updateVisitorCount(redisTemplate.opsForValue().get("visitor_count"));
+            Visitor visitor = visitorCountRepository.findById(1L).orElseGet(() -> new Visitor(redisTemplate.opsForValue().get(VisitorCounter.VISITOR_COUNT_KEY)));
+            visitor.updateVisitorCount(redisTemplate.opsForValue().get(VisitorCounter.VISITOR_COUNT_KEY));
             visitorCountRepository.save(visitor);
         } catch (Exception e) {
-            logger.severe("Failed to save visitor count to database.");
-            e.printStackTrace();
+            log.error("Failed to save visitor count to database.");
+            throw e;
+        }
+        //자정 직후 마지막 flush 가 어제 버킷에 들어갈 수 있어 어제까지 다시 집계
+        LocalDate today = LocalDate.now(VisitorCounter.ZONE_ID);
+        for (LocalDate day : new LocalDate[]{today.minusDays(1), today}) {
+            try {
+                visitorStatService.rollupDay(day);
+            } catch (Exception e) {
+                log.error("Failed to roll up visitor stats for {}.", day);
+                throw e;
+            }
         }
     }
 }
-
@@ -0,0 +1,157 @@
+package com.sparta.village.domain.visitor.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//방문 수를 요청마다 Redis 에 보내지 않고 노드 안에서 모았다가 주기적으로 반영
+//전체 방문 수는 visitor_count 와 시간별 버킷(visitor:hour:yyyyMMddHH)에 INCRBY, 순 방문자는 날짜별 HyperLogLog(visitor:unique:yyyyMMdd)에 PFADD
+@Slf4j
+@Component
+public class VisitorCounter {
+    public static final String VISITOR_COUNT_KEY = "visitor_count";
+    public static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    public static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final Duration UNIQUE_KEY_TTL = Duration.ofDays(8);
+    //일별 집계가 끝난 뒤에도 최근 72시간 그래프를 그릴 수 있을 만큼만 보관
+    private static final Duration HOUR_KEY_TTL = Duration.ofDays(4);
+
+    private final RedisTemplate<String, Integer> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    //visitor:hour:yyyyMMddHH -> 아직 반영하지 않은 방문 수
+    private final Map<String, LongAdder> pendingVisits = new ConcurrentHashMap<>();
+    //yyyyMMdd -> 아직 반영하지 않은 방문자 id
+    private final Map<String, Set<String>> pendingVisitors = new ConcurrentHashMap<>();
+    //직전 flush 에서 떼어낸 방문자 set. 떼어내기 직전에 set 을 가져간 record() 가 늦게 추가한 방문자를 이번 flush 에 보냄 (flush 에서만 접근)
+    private final List<Map.Entry<String, Set<String>>> retiredVisitors = new ArrayList<>();
+    //마지막 flush 때 읽어둔 오늘의 순 방문자 수. 메인 페이지 요청마다 Redis 를 조회하지 않도록 함
+    private volatile long uniqueVisitorCount;
+    //마지막 flush 때 읽어둔 누적 방문 수
+    private volatile long totalVisitorCount;
+
+    public VisitorCounter(RedisTemplate<String, Integer> redisTemplate, StringRedisTemplate stringRedisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public void record(String visitorId) {
+        pendingVisits.computeIfAbsent(hourKey(LocalDateTime.now(ZONE_ID)), hour -> new LongAdder()).increment();
+        pendingVisitors.computeIfAbsent(today(), day -> ConcurrentHashMap.newKeySet()).add(visitorId);
+    }
+
+    public long getUniqueVisitorCount() {
+        return uniqueVisitorCount;
+    }
+
+    public long getTotalVisitorCount() {
+        return totalVisitorCount;
+    }
+
+    @Scheduled(fixedDelayString = "${visitor.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        String currentHour = hourKey(LocalDateTime.now(ZONE_ID));
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : pendingVisits.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                counts.put(entry.getKey(), count);
+            } else if (!entry.getKey().equals(currentHour)) {
+                pendingVisits.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        try {
+            Long current = total > 0
+                    ? redisTemplate.opsForValue().increment(VISITOR_COUNT_KEY, total)
+                    : toLong(redisTemplate.opsForValue().get(VISITOR_COUNT_KEY));
+            totalVisitorCount = current == null ? totalVisitorCount : current;
+        } catch (Exception e) {
+            //Redis 장애 시 다음 flush 에 다시 반영
+            counts.forEach((hour, count) -> pendingVisits.computeIfAbsent(hour, h -> new LongAdder()).add(count));
+            log.warn("Failed to flush visitor count to redis.", e);
+            counts.clear();
+        }
+        try {
+            for (Map.Entry<String, Long> entry : counts.entrySet()) {
+                stringRedisTemplate.opsForValue().increment(entry.getKey(), entry.getValue());
+                stringRedisTemplate.expire(entry.getKey(), HOUR_KEY_TTL);
+            }
+        } catch (Exception e) {
+            //시간별 버킷은 통계용이라 누적 방문 수가 반영됐으면 다시 보내지 않음
+            log.warn("Failed to flush hourly visitor buckets to redis.", e);
+        }
+        List<Map.Entry<String, Set<String>>> batch = new ArrayList<>(retiredVisitors);
+        retiredVisitors.clear();
+        String today = today();
+        for (Map.Entry<String, Set<String>> entry : pendingVisitors.entrySet()) {
+            String day = entry.getKey();
+            Set<String> visitors = entry.getValue();
+            //오늘 set 은 새 set 으로 바꿔 끼워서 떼어내고, 지난 날짜 set 은 map 에서 제거
+            boolean detached = day.equals(today)
+                    ? !visitors.isEmpty() && pendingVisitors.replace(day, visitors, ConcurrentHashMap.newKeySet())
+                    : pendingVisitors.remove(day, visitors);
+            if (detached) {
+                batch.add(Map.entry(day, visitors));
+                retiredVisitors.add(Map.entry(day, visitors));
+            }
+        }
+        try {
+            for (Map.Entry<String, Set<String>> entry : batch) {
+                String[] visitors = entry.getValue().toArray(new String[0]);
+                if (visitors.length == 0) {
+                    continue;
+                }
+                stringRedisTemplate.opsForHyperLogLog().add(uniqueKey(entry.getKey()), visitors);
+                stringRedisTemplate.expire(uniqueKey(entry.getKey()), UNIQUE_KEY_TTL);
+                //보낸 방문자만 지워서 늦게 추가된 방문자는 다음 flush 에 보냄
+                for (String visitor : visitors) {
+                    entry.getValue().remove(visitor);
+                }
+            }
+            Long unique = stringRedisTemplate.opsForHyperLogLog().size(uniqueKey(today));
+            uniqueVisitorCount = unique == null ? 0 : unique;
+        } catch (Exception e) {
+            //순 방문자는 근사값이라 실패한 배치는 버림
+            log.warn("Failed to flush unique visitors to redis.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public static String uniqueKey(String day) {
+        return "visitor:unique:" + day;
+    }
+
+    public static String hourKey(LocalDateTime time) {
+        return "visitor:hour:" + time.format(HOUR_FORMATTER);
+    }
+
+    public static String today() {
+        return LocalDate.now(ZONE_ID).format(DAY_FORMATTER);
+    }
+
+    private static Long toLong(Integer value) {
+        return value == null ? null : value.longValue();
+    }
+}
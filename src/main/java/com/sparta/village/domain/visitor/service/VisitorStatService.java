@@ -0,0 +1,72 @@
+package com.sparta.village.domain.visitor.service;
+
+import com.sparta.village.domain.visitor.dto.DailyVisitDto;
+import com.sparta.village.domain.visitor.dto.HourlyVisitDto;
+import com.sparta.village.domain.visitor.dto.VisitorStatsResponseDto;
+import com.sparta.village.domain.visitor.entity.VisitorDailyStat;
+import com.sparta.village.domain.visitor.repository.VisitorDailyStatRepository;
+import com.sparta.village.global.exception.ResponseMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class VisitorStatService {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VisitorDailyStatRepository visitorDailyStatRepository;
+    private final VisitorCounter visitorCounter;
+
+    //해당 날짜의 시간별 버킷과 순 방문자 HyperLogLog 를 합쳐 일별 기록을 갱신. 몇 번을 돌려도 같은 결과
+    @Transactional
+    public void rollupDay(LocalDate date) {
+        List<String> keys = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            keys.add(VisitorCounter.hourKey(date.atTime(hour, 0)));
+        }
+        long visitCount = sum(stringRedisTemplate.opsForValue().multiGet(keys));
+        Long unique = stringRedisTemplate.opsForHyperLogLog().size(VisitorCounter.uniqueKey(date.format(VisitorCounter.DAY_FORMATTER)));
+        if (visitCount == 0 && (unique == null || unique == 0)) {
+            return;
+        }
+        VisitorDailyStat stat = visitorDailyStatRepository.findByStatDate(date).orElseGet(() -> new VisitorDailyStat(date));
+        stat.updateCounts(visitCount, unique == null ? 0 : unique);
+        visitorDailyStatRepository.save(stat);
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<ResponseMessage> getStats(int hours, int days) {
+        LocalDateTime currentHour = LocalDateTime.now(VisitorCounter.ZONE_ID).truncatedTo(ChronoUnit.HOURS);
+        List<LocalDateTime> hourList = new ArrayList<>();
+        for (int i = hours - 1; i >= 0; i--) {
+            hourList.add(currentHour.minusHours(i));
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(hourList.stream().map(VisitorCounter::hourKey).toList());
+        List<HourlyVisitDto> hourly = new ArrayList<>();
+        for (int i = 0; i < hourList.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            hourly.add(new HourlyVisitDto(hourList.get(i), value == null ? 0 : Long.parseLong(value)));
+        }
+
+        LocalDate today = currentHour.toLocalDate();
+        List<DailyVisitDto> daily = visitorDailyStatRepository.findByStatDateBetweenOrderByStatDate(today.minusDays(days - 1L), today).stream()
+                .map(stat -> new DailyVisitDto(stat.getStatDate(), stat.getVisitCount(), stat.getUniqueVisitorCount()))
+                .toList();
+        return ResponseMessage.SuccessResponse("방문자 통계 조회 성공", new VisitorStatsResponseDto(visitorCounter.getTotalVisitorCount(), hourly, daily));
+    }
+
+    private long sum(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        return values.stream().filter(v -> v != null).mapToLong(Long::parseLong).sum();
+    }
+}
@@ -18,6 +18,6 @@ public class ZzimController {
 
     @PostMapping("/products/{id}/zzim")
     public ResponseEntity<ResponseMessage> zzim(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return zzimService.zzim(id, userDetails.getUser());
+        return zzimService.zzim(id, userDetails.getUserReference());
     }
 }
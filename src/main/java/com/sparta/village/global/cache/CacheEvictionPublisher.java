@@ -0,0 +1,60 @@
+package com.sparta.village.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+//노드마다 따로 가진 로컬 캐시를 pub/sub 으로 함께 비우는 도우미
+//evict 한 노드는 바로 지우고, 다른 노드는 채널로 받은 메세지를 같은 handler 로 처리
+@Slf4j
+public class CacheEvictionPublisher implements MessageListener {
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final Consumer<String> handler;
+
+    public CacheEvictionPublisher(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                                  String channel, Consumer<String> handler) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.handler = handler;
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    //트랜잭션 안이면 커밋 이후에 한 번 더 지우고 다른 노드에 알려서, 커밋 전에 옛 값을 다시 채우는 경우를 막음
+    public void evictAfterCommit(String body) {
+        handler.accept(body);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(body);
+                }
+            });
+        } else {
+            evict(body);
+        }
+    }
+
+    //이미 커밋 이후인 곳(@TransactionalEventListener 등)에서 바로 알림
+    public void evict(String body) {
+        handler.accept(body);
+        try {
+            redisTemplate.convertAndSend(channel, body);
+        } catch (Exception e) {
+            log.warn("Failed to publish cache eviction {} on {}.", body, channel, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handler.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
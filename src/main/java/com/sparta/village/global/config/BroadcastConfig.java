@@ -0,0 +1,33 @@
+package com.sparta.village.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.village.global.websocket.LocalMessageBroadcaster;
+import com.sparta.village.global.websocket.MessageBroadcaster;
+import com.sparta.village.global.websocket.RedisMessageBroadcaster;
+import com.sparta.village.global.websocket.WebSocketMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+@Configuration
+public class BroadcastConfig {
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.redis.channel:chat:broadcast}")
+    private String channel;
+
+    @Bean
+    public MessageBroadcaster messageBroadcaster(SimpMessageSendingOperations template, StringRedisTemplate stringRedisTemplate,
+                                                 ObjectMapper objectMapper, RedisMessageListenerContainer redisMessageListenerContainer,
+                                                 WebSocketMetrics webSocketMetrics) {
+        if ("redis".equals(brokerMode)) {
+            return new RedisMessageBroadcaster(stringRedisTemplate, template, objectMapper, redisMessageListenerContainer, channel,
+                    webSocketMetrics.getBroadcastTimer());
+        }
+        return new LocalMessageBroadcaster(template, webSocketMetrics.getBroadcastTimer());
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.village.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+//카카오 OAuth, 네이버 지도 등 외부 API 호출에 같이 쓰는 HTTP 클라이언트
+//커넥션을 풀에서 재사용하고(keep-alive), 연결/응답/풀 대기 시간에 상한을 둬서 느린 외부 API 가 Tomcat 스레드를 붙잡지 않도록 함
+//지연 시간은 RestTemplateBuilder 에 붙는 http.client.requests 메트릭으로 uri 템플릿별로 남음
+@Configuration
+public class HttpClientConfig {
+    @Value("${http.client.max-total:100}")
+    private int maxTotal;
+
+    //호스트별 최대 커넥션 수. 한 외부 API 가 느려져도 다른 API 호출에 쓸 커넥션은 남도록 함
+    @Value("${http.client.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:5000}")
+    private int readTimeoutMs;
+
+    //풀에 남는 커넥션이 없을 때 기다리는 시간
+    @Value("${http.client.pool-timeout-ms:1000}")
+    private int poolTimeoutMs;
+
+    //서버가 Keep-Alive 헤더를 주지 않거나 더 길게 줘도 이 시간까지만 재사용
+    @Value("${http.client.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(2000);
+        registerPoolGauge(meterRegistry, connectionManager, "http.client.pool.leased", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, connectionManager, "http.client.pool.available", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, connectionManager, "http.client.pool.pending", PoolStats::getPending);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(poolTimeoutMs)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? Math.min(keepAlive, keepAliveMs) : keepAliveMs;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient httpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    private void registerPoolGauge(MeterRegistry meterRegistry, PoolingHttpClientConnectionManager connectionManager, String name,
+                                   ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(name, connectionManager, manager -> value.applyAsDouble(manager.getTotalStats()))
+                .register(meterRegistry);
+    }
+}
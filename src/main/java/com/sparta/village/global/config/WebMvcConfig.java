@@ -3,17 +3,16 @@ package com.sparta.village.global.config;
 import com.sparta.village.global.interceptor.VisitInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
-    private final RedisTemplate<String, Integer> redisTemplate;
+    private final VisitInterceptor visitInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new VisitInterceptor(redisTemplate));
+        registry.addInterceptor(visitInterceptor).addPathPatterns("/main");
     }
 }
@@ -52,6 +52,8 @@ public class WebSecurityConfig {
                 .antMatchers("/ws/**").permitAll()
                 .antMatchers("/test/**").permitAll()
                 .antMatchers("/main").permitAll()
+                //읽음 처리는 로그인한 사용자 기준이라 아래의 /chat/** 허용보다 먼저 인증을 요구
+                .antMatchers(HttpMethod.POST, "/chat/room/*/read").authenticated()
                 .antMatchers(HttpMethod.POST, "/chat/**").permitAll()
                 .antMatchers(HttpMethod.DELETE, "/chat/**").permitAll()
                 .anyRequest().authenticated()
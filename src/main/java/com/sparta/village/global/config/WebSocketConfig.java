@@ -1,14 +1,67 @@
 package com.sparta.village.global.config;
 
+import com.sparta.village.global.websocket.StompAuthChannelInterceptor;
+import com.sparta.village.global.websocket.WebSocketMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final WebSocketMetrics webSocketMetrics;
+
+    //simple: 인스턴스 내부 브로커, relay: 외부 STOMP 브로커, redis: 내부 브로커 + Redis pub/sub 팬아웃
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    //느린 클라이언트 하나가 메모리를 잡고 있지 않도록 세션별 전송 시간/버퍼 크기를 제한. 초과하면 세션을 끊음
+    @Value("${chat.ws.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.ws.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.ws.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${chat.ws.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.ws.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.ws.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.ws.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.ws.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.ws.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -17,6 +70,43 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.setApplicationDestinationPrefixes("/pub").enableSimpleBroker("/sub");
+        registry.setApplicationDestinationPrefixes("/pub");
+        if ("relay".equals(brokerMode)) {
+            registry.enableStompBrokerRelay("/sub")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            return;
+        }
+        registry.enableSimpleBroker("/sub");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketMetrics.outboundInterceptor());
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(webSocketMetrics::decorate);
     }
 }
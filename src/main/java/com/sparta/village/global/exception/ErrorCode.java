@@ -22,9 +22,13 @@ public enum ErrorCode {
     WRONG_ADMIN_TOKEN(BAD_REQUEST, "관리자 암호가 틀려 등록이 불가능합니다."),
     BAD_PARAMETER(BAD_REQUEST, "파라미터 값이 공백 또는 일치하지 않습니다."),
     BAD_NICKNAME(BAD_REQUEST, "닉네임은 공백으로 할 수 없습니다."),
+    BAD_CHAT_MESSAGE(BAD_REQUEST, "메세지는 공백이거나 255자를 넘을 수 없습니다."),
 
 
 
+    /* 401 UNAUTHORIZED : 인증 실패 */
+    INVALID_REFRESH_TOKEN(UNAUTHORIZED, "refresh token 이 없거나 만료되었습니다. 다시 로그인해주세요."),
+
     /* 404 NOT_FOUND : Resource 를 찾을 수 없음 */
     USER_NOT_FOUND(NOT_FOUND, "등록된 사용자가 없습니다"),
     RESERVATION_NOT_FOUND(NOT_FOUND, "해당 예약을 찾을 수 없습니다."),
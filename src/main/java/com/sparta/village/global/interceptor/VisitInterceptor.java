@@ -1,21 +1,48 @@
 package com.sparta.village.global.interceptor;
 
+import com.sparta.village.domain.visitor.service.VisitorCounter;
+import com.sparta.village.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
+//메인 페이지 방문을 집계. Redis 호출 없이 VisitorCounter 에만 기록
 @Component
 @RequiredArgsConstructor
 public class VisitInterceptor implements HandlerInterceptor {
-    private final RedisTemplate<String, Integer> redisTemplate;
+    private final VisitorCounter visitorCounter;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        redisTemplate.opsForValue().increment("visitor_count", 0);
+        visitorCounter.record(visitorIdOf(request));
         return true;
     }
+
+    //로그인 사용자는 user id, 비로그인 사용자는 IP 해시로 구분
+    private String visitorIdOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl) {
+            return "u:" + ((UserDetailsImpl) authentication.getPrincipal()).getUserId();
+        }
+        //X-Forwarded-For 는 Tomcat RemoteIpValve(server.forward-headers-strategy=native)가 신뢰하는 프록시에서 온 경우에만 remoteAddr 에 반영됨
+        return "ip:" + hash(request.getRemoteAddr());
+    }
+
+    private String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.sparta.village.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//폐기된 토큰 id 를 노드 메모리에 담아두는 Bloom filter. false 면 확실히 없음, true 면 Redis 로 확인
+//비트는 추가만 되고 지워지지 않으므로 주기적으로 새로 만들어서 교체함
+class BloomFilter {
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(64, Math.min(size, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitSize);
+            long mask = 1L << (index & 63);
+            long current;
+            do {
+                current = bits.get(index >>> 6);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(index >>> 6, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //64비트 FNV-1a
+    private long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -1,9 +1,15 @@
 package com.sparta.village.global.jwt;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.entity.UserRoleEnum;
+import com.sparta.village.global.security.UserDetailsImpl;
 import com.sparta.village.global.security.UserDetailsServiceImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,8 +23,10 @@ import org.springframework.util.StringUtils;
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -27,20 +35,44 @@ public class JwtUtil {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String AUTHORIZATION_KEY = "auth";
+    public static final String USER_ID_KEY = "uid";
+    public static final String ROLE_KEY = "role";
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 24 * 60 * 60 * 1000L;
 
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+
+    //access token 은 짧게 두고 refresh token 으로 다시 발급
+    @Value("${jwt.access-token-minutes:30}")
+    private long accessTokenMinutes;
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    //검증 키가 바뀌지 않으므로 parser 는 한 번만 만들어서 재사용
+    private JwtParser jwtParser;
+    //검증이 끝난 토큰 -> claims. 같은 토큰으로 오는 요청마다 서명을 다시 검증하지 않도록 함
+    private Cache<String, Claims> claimsCache;
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+    @Value("${jwt.claims-cache.expire-seconds:300}")
+    private long claimsCacheExpireSeconds;
+    //true 면 토큰의 uid/nickname/role 로 인증 정보를 만들고 사용자 조회는 필요할 때만 함
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(claimsCacheExpireSeconds))
+                .build();
     }
 
     // header 토큰을 가져오기
@@ -53,14 +85,17 @@ public class JwtUtil {
     }
 
     // 토큰 생성
-    public String createToken(String nickname,Long kakaoId) {
+    public String createToken(User user) {
         Date date = new Date();
 
         return BEARER_PREFIX +
                 Jwts.builder()
-                        .setSubject(kakaoId.toString())
-                        .claim(AUTHORIZATION_KEY, nickname)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                        .setSubject(user.getKakaoId().toString())
+                        .claim(AUTHORIZATION_KEY, user.getNickname())
+                        .claim(USER_ID_KEY, user.getId())
+                        .claim(ROLE_KEY, user.getRole().name())
+                        .setId(UUID.randomUUID().toString())
+                        .setExpiration(new Date(date.getTime() + Duration.ofMinutes(accessTokenMinutes).toMillis()))
                         .setIssuedAt(date)
                         .signWith(key, signatureAlgorithm)
                         .compact();
@@ -68,9 +103,18 @@ public class JwtUtil {
 
     // 토큰 검증
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 토큰 검증과 claims 조회를 한 번에. 유효하지 않으면 null
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = getUserInfoFromToken(token);
+            if (tokenRevocationList.isRevoked(claims.getId())) {
+                log.info("Revoked JWT token, 로그아웃된 JWT token 입니다.");
+                return null;
+            }
+            return claims;
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -80,13 +124,19 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
+        return null;
     }
 
-    @Transactional
     public Claims getUserInfoFromToken(String token) {
-
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = claimsCache.getIfPresent(token);
+        //캐시에 있어도 만료 시각이 지났으면 다시 파싱해서 ExpiredJwtException 을 던지도록 함
+        if (claims != null && claims.getExpiration().after(new Date())) {
+            return claims;
+        }
+        claimsCache.invalidate(token);
+        claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims);
+        return claims;
     }
 
     @Transactional
@@ -95,4 +145,17 @@ public class JwtUtil {
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
+    //uid/role 이 없는 이전 토큰은 stateless 모드에서도 사용자를 조회해서 인증
+    public Authentication createAuthentication(Claims claims) {
+        Number userId = claims.get(USER_ID_KEY, Number.class);
+        String role = claims.get(ROLE_KEY, String.class);
+        if (!statelessPrincipal || userId == null || role == null) {
+            return createAuthentication(claims.getSubject());
+        }
+        String kakaoId = claims.getSubject();
+        UserDetails userDetails = UserDetailsImpl.fromClaims(userId.longValue(), kakaoId, claims.get(AUTHORIZATION_KEY, String.class),
+                UserRoleEnum.valueOf(role), () -> ((UserDetailsImpl) userDetailsService.loadUserByUsername(kakaoId)).getUser());
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
 }
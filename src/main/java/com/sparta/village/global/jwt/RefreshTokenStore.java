@@ -0,0 +1,50 @@
+package com.sparta.village.global.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+//refresh token 은 서명 없는 난수 문자열로 발급하고 auth:refresh:{token} -> kakaoId 로 보관
+//사용하면 바로 지우고 새로 발급하므로(rotation) 같은 refresh token 은 한 번만 쓸 수 있음
+@Component
+public class RefreshTokenStore {
+    private static final String KEY_PREFIX = "auth:refresh:";
+    private static final RedisScript<String> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if v then redis.call('DEL', KEYS[1]) end " +
+            "return v", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate, @Value("${jwt.refresh-token-days:14}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    public String issue(Long kakaoId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        redisTemplate.opsForValue().set(KEY_PREFIX + token, kakaoId.toString(), ttl);
+        return token;
+    }
+
+    //유효하면 kakaoId 를 돌려주고 토큰은 폐기. 없거나 이미 쓴 토큰이면 null
+    public Long consume(String token) {
+        String kakaoId = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + token));
+        return kakaoId == null ? null : Long.parseLong(kakaoId);
+    }
+
+    public void revoke(String token) {
+        redisTemplate.delete(KEY_PREFIX + token);
+    }
+}
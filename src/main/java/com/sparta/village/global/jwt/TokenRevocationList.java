@@ -0,0 +1,122 @@
+package com.sparta.village.global.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+//로그아웃 등으로 폐기된 access token(jti) 목록
+//Redis 에는 토큰이 만료될 때까지만 auth:revoked:{jti} 로 남기고, 각 노드는 pub/sub 으로 받아 Bloom filter 에 추가
+//대부분의 요청(폐기되지 않은 토큰)은 Bloom filter 에서 바로 걸러져서 Redis 를 거치지 않음
+@Slf4j
+@Component
+public class TokenRevocationList implements MessageListener {
+    private static final String KEY_PREFIX = "auth:revoked:";
+    private static final String CHANNEL = "auth:revoked";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter lookupCounter;
+    private final Counter revokedCounter;
+
+    private volatile BloomFilter filter;
+    //재구성하는 동안 들어온 폐기 목록을 새 필터에도 넣기 위해 잠시 보관
+    private BloomFilter rebuilding;
+    //add 와 필터 교체가 엇갈려서 jti 가 버려질 옛 필터에만 들어가는 일을 막음
+    private final Object lock = new Object();
+
+    public TokenRevocationList(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+                               @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.lookupCounter = meterRegistry.counter("auth.revocation.lookups");
+        this.revokedCounter = meterRegistry.counter("auth.revocation.rejected");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void revoke(String jti, Date expiresAt) {
+        long ttlMillis = expiresAt.getTime() - System.currentTimeMillis();
+        if (jti == null || ttlMillis <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(ttlMillis));
+        add(jti);
+        redisTemplate.convertAndSend(CHANNEL, jti);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        lookupCounter.increment();
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (Exception e) {
+            //Bloom filter 에 걸린 토큰만 여기까지 오므로 Redis 를 확인할 수 없으면 거부
+            log.warn("Failed to check token revocation for {}.", jti, e);
+            revoked = true;
+        }
+        if (revoked) {
+            revokedCounter.increment();
+        }
+        return revoked;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    //만료된 항목을 비우고, pub/sub 을 놓친 동안 폐기된 토큰도 다시 반영
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-ms:600000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (lock) {
+            rebuilding = next;
+        }
+        int count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+            synchronized (lock) {
+                filter = next;
+            }
+            log.debug("Rebuilt token revocation filter with {} entries.", count);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild token revocation filter.", e);
+        } finally {
+            synchronized (lock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private void add(String jti) {
+        synchronized (lock) {
+            filter.put(jti);
+            if (rebuilding != null) {
+                rebuilding.put(jti);
+            }
+        }
+    }
+}
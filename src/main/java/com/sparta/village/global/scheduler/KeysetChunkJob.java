@@ -0,0 +1,60 @@
+package com.sparta.village.global.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+
+//id 순으로 대상을 청크 단위로 조회해서 처리하는 배치 작업의 공통 루프 (keyset 페이지네이션)
+//처리한 건수와 실행 횟수를 카운터로 남기고, 실패하면 그때까지 처리한 건수를 로그로 남긴 뒤 다시 던짐
+@Slf4j
+public class KeysetChunkJob {
+    private final String name;
+    private final Counter processedCounter;
+    private final Counter runCounter;
+
+    public KeysetChunkJob(String name, MeterRegistry meterRegistry,
+                          String processedMetric, String processedDescription,
+                          String runMetric, String runDescription) {
+        this.name = name;
+        this.processedCounter = Counter.builder(processedMetric)
+                .description(processedDescription)
+                .register(meterRegistry);
+        this.runCounter = Counter.builder(runMetric)
+                .description(runDescription)
+                .register(meterRegistry);
+    }
+
+    //fetcher 는 lastId 보다 큰 id 를 chunkSize 개까지 id 순으로 반환, processor 는 실제로 처리한 건수를 반환
+    public int process(int chunkSize, LongFunction<List<Long>> fetcher, ToIntFunction<List<Long>> processor) {
+        long lastId = 0L;
+        int total = 0;
+        try {
+            while (true) {
+                List<Long> ids = fetcher.apply(lastId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                int processed = processor.applyAsInt(ids);
+                processedCounter.increment(processed);
+                total += processed;
+                lastId = ids.get(ids.size() - 1);
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+            }
+            return total;
+        } catch (Exception e) {
+            log.error("Job {} failed after {} rows.", name, total);
+            throw e;
+        }
+    }
+
+    //한 번의 실행이 끝까지 성공했을 때 호출
+    public void recordRun() {
+        runCounter.increment();
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.village.global.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+//@Scheduled 작업이 여러 인스턴스에서 동시에 돌지 않도록 Redis 에 임대(lease) 형태의 락을 잡음
+//락을 잡을 때마다 scheduler:fence:{job} 을 증가시킨 fencing token 을 값에 넣고, 해제할 때 토큰이 같을 때만 지움
+//lockAtMost 가 지나면 락이 자동으로 풀리므로 노드가 죽어도 다음 주기에는 다른 노드가 실행
+@Slf4j
+@Component
+public class SchedulerLock {
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local t = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. t, 'PX', ARGV[2]) " +
+            "return t", Long.class);
+    //lockAtLeast 가 남아 있으면 바로 지우지 않고 남은 시간만큼만 유지해서, 시계가 조금 늦은 노드가 같은 주기를 다시 실행하지 않도록 함
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    //job 이름 -> 마지막으로 성공한 시각 (epoch seconds)
+    private final Map<String, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+
+    public SchedulerLock(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    //락을 잡으면 task 를 실행하고 true, 다른 노드가 실행 중이거나 Redis 에 닿지 않으면 건너뛰고 false
+    public boolean run(String job, Duration lockAtMost, Duration lockAtLeast, Runnable task) {
+        String owner;
+        try {
+            Long token = redisTemplate.execute(ACQUIRE_SCRIPT, keys(job), instanceId, String.valueOf(lockAtMost.toMillis()));
+            if (token == null || token == 0) {
+                skipped(job, "locked").increment();
+                log.debug("Skipped scheduled job {}: lock held by another instance.", job);
+                return false;
+            }
+            owner = instanceId + ":" + token;
+        } catch (Exception e) {
+            skipped(job, "error").increment();
+            log.warn("Skipped scheduled job {}: failed to acquire lock.", job, e);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            task.run();
+            lastSuccess(job).set(System.currentTimeMillis() / 1000);
+        } catch (Exception e) {
+            Counter.builder("scheduler.job.failed").tag("job", job).register(meterRegistry).increment();
+            log.error("Scheduled job {} failed.", job, e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("scheduler.job.duration").tag("job", job).register(meterRegistry).record(Duration.ofNanos(elapsed));
+            release(job, owner, Math.max(0, lockAtLeast.toMillis() - Duration.ofNanos(elapsed).toMillis()));
+        }
+        return true;
+    }
+
+    private void release(String job, String owner, long remainingMillis) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(job)), owner, String.valueOf(remainingMillis));
+        } catch (Exception e) {
+            //해제에 실패해도 lockAtMost 가 지나면 풀림
+            log.warn("Failed to release scheduler lock for {}.", job, e);
+        }
+    }
+
+    private Counter skipped(String job, String reason) {
+        return Counter.builder("scheduler.job.skipped").tag("job", job).tag("reason", reason).register(meterRegistry);
+    }
+
+    private AtomicLong lastSuccess(String job) {
+        return lastSuccess.computeIfAbsent(job, name -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("scheduler.job.last.success", value, AtomicLong::get)
+                    .tag("job", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private List<String> keys(String job) {
+        return List.of(lockKey(job), "scheduler:fence:" + job);
+    }
+
+    private String lockKey(String job) {
+        return "scheduler:lock:" + job;
+    }
+}
@@ -8,24 +8,67 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    //stateless 모드에서는 처음 getUser() 를 부를 때까지 null
+    private User user;
     private final String kakaoId;
+    private final Long userId;
+    private final String nickname;
+    private final UserRoleEnum role;
+    private final Supplier<User> userLoader;
 
     public UserDetailsImpl(User user, String kakaoId) {
         this.user = user;
         this.kakaoId = kakaoId;
+        this.userId = user.getId();
+        this.nickname = user.getNickname();
+        this.role = user.getRole();
+        this.userLoader = () -> user;
     }
 
+    private UserDetailsImpl(Long userId, String kakaoId, String nickname, UserRoleEnum role, Supplier<User> userLoader) {
+        this.kakaoId = kakaoId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.role = role;
+        this.userLoader = userLoader;
+    }
+
+    //토큰 claims 만으로 만든 인증 정보. 엔티티는 getUser() 를 부를 때 userLoader 로 읽음
+    public static UserDetailsImpl fromClaims(Long userId, String kakaoId, String nickname, UserRoleEnum role, Supplier<User> userLoader) {
+        return new UserDetailsImpl(userId, kakaoId, nickname, role, userLoader);
+    }
+
+    //최신 상태의 엔티티가 필요한 경우 (프로필 표시, 사용자 정보 수정 등)
     public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
         return user;
     }
 
+    public Long getUserId() {
+        return userId;
+    }
+
+    //토큰을 발급할 때의 닉네임. 이후에 바뀐 닉네임은 getUser() 로 확인
+    public String getNickname() {
+        return nickname;
+    }
+
+    //id 로 연관관계를 맺거나 조회 조건으로 쓸 때 사용. 프로필이 비어 있을 수 있으므로 저장하거나 화면에 쓰지 않음
+    public User getUserReference() {
+        if (user != null) {
+            return user;
+        }
+        return User.builder().id(userId).kakaoId(Long.parseLong(kakaoId)).nickname(nickname).role(role).build();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        UserRoleEnum role = user.getRole();
         String authority = role.getAuthority();
 
         SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority(authority);
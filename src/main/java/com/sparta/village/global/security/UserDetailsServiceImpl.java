@@ -1,25 +1,63 @@
 package com.sparta.village.global.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sparta.village.domain.user.entity.User;
 import com.sparta.village.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    //kakaoId -> 사용자. 인증된 요청마다 users 를 조회하지 않도록 짧게 보관
+    //다른 노드에서 바뀐 닉네임/프로필은 TTL 이 지나야 반영됨
+    private final Cache<String, User> principalCache;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                                  @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByKakaoId(Long.parseLong(username))
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        User user = principalCache.get(username, kakaoId -> userRepository.findByKakaoId(Long.parseLong(kakaoId)).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        //요청 안에서 엔티티를 수정해도 캐시된 값이 바뀌지 않도록 복사본을 넘김
+        return new UserDetailsImpl(copyOf(user), username);
+    }
+
+    //트랜잭션 안이면 커밋 이후에 한 번 더 지워서, 커밋 전에 다른 요청이 옛 값을 다시 채워 넣는 경우를 막음
+    public void evict(Long kakaoId) {
+        String key = String.valueOf(kakaoId);
+        principalCache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(key);
+                }
+            });
+        }
+    }
 
-        return new UserDetailsImpl(user, username);
+    private User copyOf(User user) {
+        return new User(user.getId(), user.getKakaoId(), user.getNickname(), user.getProfile(), user.getRole(), user.isDeleted());
     }
 }
@@ -0,0 +1,19 @@
+package com.sparta.village.global.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+
+//STOMP CONNECT 시 JWT 로 확인한 사용자. 세션 속성에 저장해두고 메세지마다 DB 조회 없이 사용
+@Getter
+@AllArgsConstructor
+public class ChatPrincipal implements Principal {
+    private final Long userId;
+    private final String nickname;
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
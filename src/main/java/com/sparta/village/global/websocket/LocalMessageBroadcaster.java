@@ -0,0 +1,17 @@
+package com.sparta.village.global.websocket;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+//simple 브로커(단일 인스턴스) 또는 외부 STOMP 브로커 relay 모드에서 사용. relay 모드에서는 브로커가 노드 간 전달을 담당
+@RequiredArgsConstructor
+public class LocalMessageBroadcaster implements MessageBroadcaster {
+    private final SimpMessageSendingOperations template;
+    private final Timer broadcastTimer;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        broadcastTimer.record(() -> template.convertAndSend(destination, payload));
+    }
+}
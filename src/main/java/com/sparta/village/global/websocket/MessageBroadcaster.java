@@ -0,0 +1,6 @@
+package com.sparta.village.global.websocket;
+
+//STOMP 구독자에게 메세지를 보내는 통로. 브로커 모드(chat.broker.mode)에 따라 구현이 달라짐
+public interface MessageBroadcaster {
+    void broadcast(String destination, Object payload);
+}
@@ -0,0 +1,63 @@
+package com.sparta.village.global.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+//Redis pub/sub 으로 모든 인스턴스에 메세지를 뿌리고, 각 인스턴스는 자기 simple 브로커의 구독자에게 전달
+//보낸 인스턴스도 채널을 통해 받기 때문에 방 안에서의 순서가 인스턴스마다 같게 유지됨
+@Slf4j
+public class RedisMessageBroadcaster implements MessageBroadcaster, MessageListener {
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessageSendingOperations template;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final Timer broadcastTimer;
+
+    public RedisMessageBroadcaster(StringRedisTemplate redisTemplate, SimpMessageSendingOperations template, ObjectMapper objectMapper,
+                                   RedisMessageListenerContainer listenerContainer, String channel, Timer broadcastTimer) {
+        this.redisTemplate = redisTemplate;
+        this.template = template;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.broadcastTimer = broadcastTimer;
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("destination", destination);
+        envelope.put("sentAt", System.currentTimeMillis());
+        envelope.set("payload", objectMapper.valueToTree(payload));
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize broadcast to {}", destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(message.getBody());
+            template.convertAndSend(envelope.get("destination").asText(), envelope.get("payload"));
+            //다른 노드에서 보낸 시각부터 이 노드의 브로커에 넘길 때까지 (노드 간 시계 차이 포함)
+            broadcastTimer.record(Math.max(0, System.currentTimeMillis() - envelope.path("sentAt").asLong()), TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            log.error("Failed to read broadcast from channel {}", channel, e);
+        }
+    }
+}
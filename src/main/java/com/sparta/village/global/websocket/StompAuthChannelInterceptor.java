@@ -0,0 +1,115 @@
+package com.sparta.village.global.websocket;
+
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
+import com.sparta.village.domain.chat.service.ChatRoomParticipantCache;
+import com.sparta.village.global.jwt.JwtUtil;
+import com.sparta.village.global.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    public static final String PRINCIPAL_ATTRIBUTE = "chatPrincipal";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_DESTINATION_PREFIX = "/sub/user/";
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    //방 메세지, presence, typing 경로 (/sub/chat/room/{roomId}[/...])
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/sub/chat/room/(\\d{1,18})(?:/.*)?$");
+
+    private final JwtUtil jwtUtil;
+    private final ChatRoomParticipantCache chatRoomParticipantCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT:
+                authenticate(accessor);
+                break;
+            case SUBSCRIBE:
+                checkSubscription(accessor, getPrincipal(accessor));
+                break;
+            case SEND:
+                getPrincipal(accessor);
+                break;
+            default:
+                break;
+        }
+        return message;
+    }
+
+    //연결 시 한 번만 토큰을 확인하고 사용자 정보를 세션에 저장
+    private void authenticate(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader(JwtUtil.AUTHORIZATION_HEADER);
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(BEARER_PREFIX)) {
+            throw new MessageDeliveryException("Token Error");
+        }
+        String token = bearerToken.substring(BEARER_PREFIX.length());
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims == null) {
+            throw new MessageDeliveryException("Token Error");
+        }
+        //HTTP 요청과 같은 방식으로 인증 정보를 만듦
+        UserDetailsImpl userDetails = (UserDetailsImpl) jwtUtil.createAuthentication(claims).getPrincipal();
+        //stateless 모드의 토큰 닉네임은 닉네임 변경 후에도 토큰이 만료될 때까지 남아 있으므로
+        //메세지에 찍히는 닉네임은 캐시된 사용자 정보(UserDetailsServiceImpl)에서 읽음
+        ChatPrincipal principal = new ChatPrincipal(userDetails.getUserId(), userDetails.getUser().getNickname());
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            sessionAttributes.put(PRINCIPAL_ATTRIBUTE, principal);
+        }
+        accessor.setUser(principal);
+    }
+
+    private ChatPrincipal getPrincipal(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof ChatPrincipal) {
+            return (ChatPrincipal) accessor.getUser();
+        }
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object principal = sessionAttributes == null ? null : sessionAttributes.get(PRINCIPAL_ATTRIBUTE);
+        if (!(principal instanceof ChatPrincipal)) {
+            throw new MessageDeliveryException("Unauthenticated STOMP session");
+        }
+        accessor.setUser((ChatPrincipal) principal);
+        return (ChatPrincipal) principal;
+    }
+
+    //유저별 알림 경로(/sub/user/{id}/...)는 본인만, 채팅방 경로(/sub/chat/room/{roomId}/...)는 방 참여자만 구독 가능
+    private void checkSubscription(StompHeaderAccessor accessor, ChatPrincipal principal) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            String ownPrefix = USER_DESTINATION_PREFIX + principal.getUserId() + "/";
+            if (!destination.startsWith(ownPrefix)) {
+                throw new MessageDeliveryException("Cannot subscribe to " + destination);
+            }
+        } else if (destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            Matcher matcher = ROOM_DESTINATION.matcher(destination);
+            if (!matcher.matches()) {
+                throw new MessageDeliveryException("Cannot subscribe to " + destination);
+            }
+            ChatRoomParticipantsDto participants = chatRoomParticipantCache.get(Long.parseLong(matcher.group(1)));
+            if (participants == null || !participants.contains(principal.getUserId())) {
+                throw new MessageDeliveryException("Cannot subscribe to " + destination);
+            }
+        }
+    }
+}
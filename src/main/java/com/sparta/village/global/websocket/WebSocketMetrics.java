@@ -0,0 +1,99 @@
+package com.sparta.village.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+//채팅 노드 크기를 정할 때 참고하는 WebSocket 지표
+//chat.ws.sessions: 연결된 세션 수, chat.ws.outbound.queued: 전송 대기 프레임 수,
+//chat.ws.frames.dropped: 전송하지 못한 프레임 수, chat.ws.sessions.evicted: 느린 클라이언트로 끊긴 세션 수
+@Slf4j
+@Component
+public class WebSocketMetrics {
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final Counter droppedFrames;
+    private final Counter evictedSessions;
+    private final Timer broadcastTimer;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.ws.sessions", sessions, AtomicInteger::get).register(meterRegistry);
+        this.droppedFrames = meterRegistry.counter("chat.ws.frames.dropped");
+        this.evictedSessions = meterRegistry.counter("chat.ws.sessions.evicted");
+        this.broadcastTimer = Timer.builder("chat.broadcast.latency")
+                .description("Time from broadcast to hand-off to the local broker")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public Timer getBroadcastTimer() {
+        return broadcastTimer;
+    }
+
+    //세션 수를 세고, sendTimeLimit/sendBufferSizeLimit 초과로 닫힌 세션을 eviction 으로 집계
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    evictedSessions.increment();
+                    log.warn("Evicted slow websocket session {}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    //outbound 채널 큐가 가득 차서 거절된 프레임 집계
+    public ChannelInterceptor outboundInterceptor() {
+        return new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                if (!sent || ex != null) {
+                    droppedFrames.increment();
+                }
+            }
+        };
+    }
+
+    //채널 executor 는 WebSocket 설정 이후에 만들어지므로 기동이 끝난 뒤에 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindChannelExecutors(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        bindExecutor(context, "clientInboundChannelExecutor", "inbound");
+        bindExecutor(context, "clientOutboundChannelExecutor", "outbound");
+    }
+
+    private void bindExecutor(ApplicationContext context, String beanName, String channel) {
+        if (!context.containsBean(beanName)) {
+            return;
+        }
+        ThreadPoolTaskExecutor executor = context.getBean(beanName, ThreadPoolTaskExecutor.class);
+        Gauge.builder("chat.ws." + channel + ".queued", executor, e -> e.getThreadPoolExecutor().getQueue().size()).register(meterRegistry);
+        Gauge.builder("chat.ws." + channel + ".active", executor, ThreadPoolTaskExecutor::getActiveCount).register(meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.repository.ChatMessageRepository;
+import com.sparta.village.domain.chat.scheduler.ChatMessageArchiveScheduler;
+import com.sparta.village.domain.chat.service.ChatMessageIdGenerator;
+import com.sparta.village.domain.chat.service.ChatService;
+import com.sparta.village.global.scheduler.SchedulerLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageArchiveSchedulerTest {
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatService chatService;
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageArchiveScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ChatMessageArchiveScheduler(chatMessageRepository, chatService, schedulerLock, meterRegistry);
+        //락은 항상 잡힌 것으로 보고 작업을 바로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).when(schedulerLock).run(anyString(), any(Duration.class), any(Duration.class), any(Runnable.class));
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(scheduler, "hotDays", 90L);
+    }
+
+    @Test
+    @DisplayName("삭제된 메세지와 cutoff 이전 메세지를 각각 옮기고, 오래된 메세지는 cutoff 시각의 id 까지만 조회")
+    public void archiveDeletedAndOldTest() {
+        //given
+        doReturn(List.of(BigInteger.valueOf(7L))).when(chatMessageRepository).findDeletedIds(0L, 2);
+        doReturn(List.of(BigInteger.valueOf(1L), BigInteger.valueOf(4L))).when(chatMessageRepository).findArchivableIds(eq(0L), anyLong(), anyLong(), eq(2));
+        doReturn(List.of()).when(chatMessageRepository).findArchivableIds(eq(4L), anyLong(), anyLong(), eq(2));
+        doReturn(1).when(chatService).archiveMessages(List.of(7L));
+        doReturn(2).when(chatService).archiveMessages(List.of(1L, 4L));
+        long before = System.currentTimeMillis() - Duration.ofDays(90).toMillis();
+
+        //when
+        scheduler.archiveMessages();
+
+        //then
+        ArgumentCaptor<Long> maxId = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> cutoff = ArgumentCaptor.forClass(Long.class);
+        verify(chatMessageRepository, times(2)).findArchivableIds(anyLong(), maxId.capture(), cutoff.capture(), anyInt());
+        assertEquals(ChatMessageIdGenerator.minIdAt(cutoff.getValue()), maxId.getValue());
+        assertTrue(cutoff.getValue() >= before);
+        assertEquals(3.0, meterRegistry.get("chat.archive.moved").counter().count());
+        assertEquals(1.0, meterRegistry.get("chat.archive.runs").counter().count());
+
+        //verify
+        verify(chatMessageRepository, times(1)).findDeletedIds(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.service.ChatMessageIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMessageIdGeneratorTest {
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+
+    //시각을 직접 정하는 생성기
+    private ChatMessageIdGenerator generator(long nodeId, AtomicLong now) {
+        return new ChatMessageIdGenerator(nodeId) {
+            @Override
+            protected long currentTimeMillis() {
+                return now.get();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("발급한 id 는 항상 증가")
+    public void monotonicTest() {
+        //given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1L);
+
+        //when
+        long previous = generator.nextId();
+        for (int i = 0; i < 100000; i++) {
+            long id = generator.nextId();
+
+            //then
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("같은 ms 에 시퀀스를 다 쓰면 다음 ms 로 넘어감")
+    public void sequenceRolloverTest() {
+        //given
+        AtomicLong now = new AtomicLong(1700000000000L);
+        ChatMessageIdGenerator generator = generator(0L, now);
+        long first = generator.nextId();
+        long last = first;
+        for (int i = 1; i < (1 << SEQUENCE_BITS); i++) {
+            last = generator.nextId();
+        }
+
+        //when
+        long rolled = generator.nextId();
+
+        //then
+        assertEquals(first >> (NODE_BITS + SEQUENCE_BITS), last >> (NODE_BITS + SEQUENCE_BITS));
+        assertEquals((1 << SEQUENCE_BITS) - 1, last & ((1 << SEQUENCE_BITS) - 1));
+        assertEquals((first >> (NODE_BITS + SEQUENCE_BITS)) + 1, rolled >> (NODE_BITS + SEQUENCE_BITS));
+        assertEquals(0, rolled & ((1 << SEQUENCE_BITS) - 1));
+        assertTrue(rolled > last);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 id 는 증가")
+    public void clockBackwardsTest() {
+        //given
+        AtomicLong now = new AtomicLong(1700000000000L);
+        ChatMessageIdGenerator generator = generator(0L, now);
+        long before = generator.nextId();
+
+        //when
+        now.addAndGet(-1000L);
+        long after = generator.nextId();
+
+        //then
+        assertTrue(after > before);
+    }
+
+    @Test
+    @DisplayName("노드 id 가 가운데 10bit 에 들어감")
+    public void nodeBitsTest() {
+        //given
+        AtomicLong now = new AtomicLong(1700000000000L);
+        ChatMessageIdGenerator node5 = generator(5L, now);
+        ChatMessageIdGenerator node1023 = generator(1023L, now);
+
+        //when
+        long id5 = node5.nextId();
+        long id1023 = node1023.nextId();
+
+        //then
+        assertEquals(5L, (id5 >> SEQUENCE_BITS) & ((1 << NODE_BITS) - 1));
+        assertEquals(1023L, (id1023 >> SEQUENCE_BITS) & ((1 << NODE_BITS) - 1));
+        assertEquals(id5 >> (NODE_BITS + SEQUENCE_BITS), id1023 >> (NODE_BITS + SEQUENCE_BITS));
+        assertThrows(IllegalArgumentException.class, () -> new ChatMessageIdGenerator(1024L));
+        assertThrows(IllegalArgumentException.class, () -> new ChatMessageIdGenerator(-1L));
+    }
+
+    @Test
+    @DisplayName("minIdAt 은 그 시각 이후 발급한 어떤 id 보다도 작거나 같음")
+    public void minIdAtTest() {
+        //given
+        AtomicLong now = new AtomicLong(1700000000000L);
+        ChatMessageIdGenerator generator = generator(1023L, now);
+
+        //when
+        long id = generator.nextId();
+
+        //then
+        assertTrue(ChatMessageIdGenerator.minIdAt(1700000000000L) <= id);
+        assertTrue(ChatMessageIdGenerator.minIdAt(1700000000001L) > id);
+        assertEquals(0L, ChatMessageIdGenerator.minIdAt(0L));
+    }
+}
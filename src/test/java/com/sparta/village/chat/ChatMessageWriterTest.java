@@ -0,0 +1,221 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.service.ChatMessageWriter;
+import com.sparta.village.domain.chat.service.PendingChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    //insert / chat_room 갱신 batchUpdate 에 넘어간 메세지
+    private final List<List<PendingChatMessage>> inserted = new CopyOnWriteArrayList<>();
+    private final List<List<PendingChatMessage>> updated = new CopyOnWriteArrayList<>();
+    //남은 횟수만큼 insert 가 실패 (DB 연결 불가)
+    private final AtomicInteger insertFailures = new AtomicInteger();
+    //이 id 가 들어간 insert 는 항상 실패 (저장할 수 없는 메세지)
+    private volatile long poisonId = -1L;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<PendingChatMessage> batch = new ArrayList<>(invocation.<Collection<PendingChatMessage>>getArgument(1));
+            if (sql.startsWith("insert")) {
+                if (insertFailures.getAndDecrement() > 0) {
+                    throw new CannotGetJdbcConnectionException("db down");
+                }
+                if (batch.stream().anyMatch(m -> m.getId() == poisonId)) {
+                    throw new DataIntegrityViolationException("Data too long for column 'content'");
+                }
+                inserted.add(batch);
+            } else {
+                updated.add(batch);
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    private ChatMessageWriter writer(int queueCapacity) {
+        return writer(queueCapacity, 100);
+    }
+
+    private ChatMessageWriter writer(int queueCapacity, int retryCapacity) {
+        return new ChatMessageWriter(jdbcTemplate, transactionManager, meterRegistry, queueCapacity, 200, 10L, 10L, 10L, retryCapacity);
+    }
+
+    private PendingChatMessage message(long id, long roomId) {
+        return new PendingChatMessage(id, roomId, 1L, "content" + id, 1700000000000L + id);
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 메세지를 한 배치로 저장하고 방마다 마지막 메세지로만 갱신")
+    public void batchGroupingTest() throws InterruptedException {
+        //given
+        ChatMessageWriter writer = writer(100);
+        //writer 스레드 시작 전에 큐에 넣어서 한 배치로 묶이도록 함
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.enqueue(message(1L, 10L));
+        writer.enqueue(message(2L, 20L));
+        writer.enqueue(message(3L, 10L));
+
+        //when
+        writer.start();
+        writer.shutdown();
+
+        //then
+        assertEquals(1, inserted.size());
+        assertEquals(List.of(1L, 2L, 3L), inserted.get(0).stream().map(PendingChatMessage::getId).toList());
+        assertEquals(List.of(3L, 2L), updated.get(0).stream().map(PendingChatMessage::getId).toList());
+        assertEquals(3.0, meterRegistry.get("chat.writer.persisted").counter().count());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 재시도")
+    public void retryTest() throws InterruptedException {
+        //given
+        ChatMessageWriter writer = writer(100);
+        insertFailures.set(2);
+        writer.start();
+
+        //when
+        writer.enqueue(message(1L, 10L));
+        writer.shutdown();
+
+        //then
+        assertEquals(1, inserted.size());
+        assertEquals(1.0, meterRegistry.get("chat.writer.persisted").counter().count());
+        assertEquals(0.0, meterRegistry.get("chat.writer.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("DB 에 연결할 수 없으면 재시도를 다 써도 버리지 않고 다음 flush 때 저장")
+    public void keepFailedBatchTest() throws InterruptedException {
+        //given
+        ChatMessageWriter writer = writer(100);
+        //배치 재시도 3번 + 한 건씩 저장 1번
+        insertFailures.set(4);
+        writer.start();
+
+        //when
+        writer.enqueue(message(1L, 10L));
+        Thread.sleep(200);
+        writer.shutdown();
+
+        //then
+        assertEquals(List.of(1L), inserted.stream().flatMap(List::stream).map(PendingChatMessage::getId).toList());
+        assertEquals(1.0, meterRegistry.get("chat.writer.failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("chat.writer.persisted").counter().count());
+        assertEquals(0.0, meterRegistry.get("chat.writer.retry.size").gauge().value());
+        assertEquals(0.0, meterRegistry.get("chat.writer.dead-lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 메세지만 dead letter 로 빼고 같은 배치의 나머지는 저장")
+    public void poisonMessageTest() throws InterruptedException {
+        //given
+        ChatMessageWriter writer = writer(100);
+        poisonId = 2L;
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.enqueue(message(1L, 10L));
+        writer.enqueue(message(2L, 10L));
+        writer.enqueue(message(3L, 20L));
+
+        //when
+        writer.start();
+        writer.shutdown();
+
+        //then
+        assertEquals(List.of(1L, 3L), inserted.stream().flatMap(List::stream).map(PendingChatMessage::getId).toList());
+        assertEquals(2.0, meterRegistry.get("chat.writer.persisted").counter().count());
+        assertEquals(1.0, meterRegistry.get("chat.writer.dead-lettered").counter().count());
+        assertEquals(0.0, meterRegistry.get("chat.writer.retry.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("재시도 큐가 가득 차면 넘치는 메세지는 dead letter 로 기록")
+    public void retryCapacityTest() {
+        //given
+        ChatMessageWriter writer = writer(1, 1);
+        insertFailures.set(Integer.MAX_VALUE);
+        //writer 스레드 없이 큐만 채워서 호출한 스레드에서 저장하도록 함
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.enqueue(message(1L, 10L));
+
+        //when
+        writer.enqueue(message(2L, 10L));
+        writer.enqueue(message(3L, 10L));
+
+        //then
+        assertEquals(0, inserted.size());
+        assertEquals(1.0, meterRegistry.get("chat.writer.retry.size").gauge().value());
+        assertEquals(1.0, meterRegistry.get("chat.writer.dead-lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 직접 저장")
+    public void backpressureTest() {
+        //given
+        ChatMessageWriter writer = writer(1);
+        //writer 스레드 없이 큐만 채움
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.enqueue(message(1L, 10L));
+
+        //when
+        writer.enqueue(message(2L, 10L));
+
+        //then
+        assertEquals(1, inserted.size());
+        assertEquals(List.of(2L), inserted.get(0).stream().map(PendingChatMessage::getId).toList());
+        assertEquals(1.0, meterRegistry.get("chat.writer.backpressure").counter().count());
+        assertEquals(1.0, meterRegistry.get("chat.writer.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 메세지를 모두 저장")
+    public void shutdownFlushTest() throws InterruptedException {
+        //given
+        ChatMessageWriter writer = writer(100);
+        writer.start();
+        for (long id = 1; id <= 50; id++) {
+            writer.enqueue(message(id, id % 3));
+        }
+
+        //when
+        writer.shutdown();
+
+        //then
+        assertEquals(50, inserted.stream().mapToInt(List::size).sum());
+        assertEquals(50.0, meterRegistry.get("chat.writer.persisted").counter().count());
+        assertEquals(0.0, meterRegistry.get("chat.writer.queue.size").gauge().value());
+    }
+}
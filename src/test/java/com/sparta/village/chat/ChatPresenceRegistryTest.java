@@ -0,0 +1,81 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.dto.PresenceDto;
+import com.sparta.village.domain.chat.dto.TypingDto;
+import com.sparta.village.domain.chat.service.ChatPresenceRegistry;
+import com.sparta.village.global.websocket.ChatPrincipal;
+import com.sparta.village.global.websocket.MessageBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceRegistryTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private MessageBroadcaster messageBroadcaster;
+
+    private ChatPresenceRegistry registry;
+
+    @BeforeEach
+    public void init() {
+        registry = new ChatPresenceRegistry(redisTemplate, messageBroadcaster, 0L, 90000L, 60000L);
+    }
+
+    @Test
+    @DisplayName("방을 구독하면 온라인으로 알리고, 입력 중 이벤트는 묶어서 한 번만 전달")
+    public void subscribeAndTypingTest() {
+        //given
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        registry.onSubscribe(subscribeEvent("session1", "sub-0", "/sub/chat/room/10", new ChatPrincipal(1L, "nickname")));
+
+        //when
+        registry.typing("session1", 10L);
+        registry.typing("session1", 10L);
+        registry.typing("session1", 10L);
+
+        //then
+        verify(hashOperations, times(1)).put(eq("chat:presence:{10}"), eq("1:0"), any());
+        verify(messageBroadcaster, times(1)).broadcast(eq("/sub/chat/room/10/presence"), any(PresenceDto.class));
+        verify(messageBroadcaster, times(1)).broadcast(eq("/sub/chat/room/10/typing"), any(TypingDto.class));
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 방의 입력 중 이벤트는 무시")
+    public void typingWithoutSubscriptionTest() {
+        //when
+        registry.typing("session1", 10L);
+
+        //then
+        verify(messageBroadcaster, times(0)).broadcast(any(), any());
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination, ChatPrincipal principal) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(Map.of());
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(this, message, principal);
+    }
+}
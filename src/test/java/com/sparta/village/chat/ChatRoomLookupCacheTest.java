@@ -0,0 +1,80 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.service.ChatRoomLookupCache;
+import com.sparta.village.domain.user.event.NicknameChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomLookupCacheTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ChatRoomLookupCache cache;
+
+    @BeforeEach
+    public void init() {
+        cache = new ChatRoomLookupCache(redisTemplate, listenerContainer, 100, 10);
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀌면 옛 닉네임의 방을 지우고 다른 노드에도 알림")
+    public void nicknameChangedTest() {
+        //given
+        cache.put(1L, "old", 10L);
+        cache.put(2L, "old", 20L);
+        cache.put(1L, "other", 30L);
+
+        //when
+        cache.onNicknameChanged(new NicknameChangedEvent(5L, 55L, "old", "new"));
+
+        //then
+        assertNull(cache.get(1L, "old"));
+        assertNull(cache.get(2L, "old"));
+        assertEquals(30L, cache.get(1L, "other"));
+
+        //verify
+        verify(redisTemplate, times(1)).convertAndSend("chat:room-lookup:evict", "nickname:old");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 방 삭제 알림을 받으면 제거")
+    public void evictFromOtherNodeTest() {
+        //given
+        cache.put(1L, "user:name", 10L);
+        cache.put(1L, "other", 30L);
+
+        //when
+        listener().onMessage(new DefaultMessage("chat:room-lookup:evict".getBytes(StandardCharsets.UTF_8),
+                "key:1:user:name".getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertNull(cache.get(1L, "user:name"));
+        assertEquals(30L, cache.get(1L, "other"));
+    }
+
+    //캐시가 pub/sub 채널에 등록한 리스너
+    private MessageListener listener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        return listener.getValue();
+    }
+}
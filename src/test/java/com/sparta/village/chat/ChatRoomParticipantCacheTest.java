@@ -0,0 +1,89 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
+import com.sparta.village.domain.chat.repository.ChatRoomRepository;
+import com.sparta.village.domain.chat.service.ChatRoomParticipantCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomParticipantCacheTest {
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ChatRoomParticipantCache cache;
+
+    @BeforeEach
+    public void init() {
+        cache = new ChatRoomParticipantCache(chatRoomRepository, redisTemplate, listenerContainer, 100, 10);
+        doReturn(Optional.of(new ChatRoomParticipantsDto(1L, 2L))).when(chatRoomRepository).findParticipants(10L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 삭제 알림을 받으면 다시 조회")
+    public void evictFromOtherNodeTest() {
+        //given
+        cache.get(10L);
+        cache.get(10L);
+
+        //when
+        listener().onMessage(new DefaultMessage("chat:participants:evict".getBytes(StandardCharsets.UTF_8), "10".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(10L);
+
+        //then
+        verify(chatRoomRepository, times(2)).findParticipants(10L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 evict 하면 커밋 이후에 다른 노드에 알림")
+    public void evictAfterCommitTest() {
+        //given
+        cache.get(10L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            cache.evict(10L);
+
+            //then
+            verify(redisTemplate, times(0)).convertAndSend(anyString(), anyString());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        //verify
+        verify(redisTemplate, times(1)).convertAndSend("chat:participants:evict", "10");
+        assertEquals(1L, cache.get(10L).getUserId());
+        verify(chatRoomRepository, times(2)).findParticipants(10L);
+    }
+
+    //캐시가 pub/sub 채널에 등록한 리스너
+    private MessageListener listener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        return listener.getValue();
+    }
+}
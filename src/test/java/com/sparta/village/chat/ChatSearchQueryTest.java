@@ -0,0 +1,34 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.dto.HighlightDto;
+import com.sparta.village.domain.chat.util.ChatSearchQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChatSearchQueryTest {
+    @Test
+    @DisplayName("검색어에서 boolean mode 연산자와 한 글자 단어를 제거")
+    public void tokenizeTest() {
+        assertEquals(List.of("주소", "알려"), ChatSearchQuery.tokenize("  +주소* 좀 \"알려\" "));
+        assertEquals("+\"주소\" +\"알려\"", ChatSearchQuery.toBooleanQuery(List.of("주소", "알려")));
+    }
+
+    @Test
+    @DisplayName("메세지 안에서 검색어 위치를 순서대로 반환")
+    public void highlightTest() {
+        //when
+        List<HighlightDto> highlights = ChatSearchQuery.highlight("서울 주소는 Seoul, seoul 주소", List.of("주소", "SEOUL"));
+
+        //then
+        assertEquals(4, highlights.size());
+        assertEquals(3, highlights.get(0).getStart());
+        assertEquals(5, highlights.get(0).getEnd());
+        assertEquals(7, highlights.get(1).getStart());
+        assertEquals(14, highlights.get(2).getStart());
+        assertEquals(20, highlights.get(3).getStart());
+    }
+}
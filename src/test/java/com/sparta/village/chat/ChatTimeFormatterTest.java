@@ -0,0 +1,26 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.util.ChatTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChatTimeFormatterTest {
+    private final long sentAt = LocalDateTime.of(2023, 4, 27, 9, 5).atZone(ChatTimeFormatter.ZONE_ID).toInstant().toEpochMilli();
+
+    @Test
+    @DisplayName("오늘 보낸 메세지는 시간만 표시")
+    public void formatTodayTest() {
+        assertEquals("09:05", ChatTimeFormatter.format(sentAt, LocalDate.of(2023, 4, 27)));
+    }
+
+    @Test
+    @DisplayName("이전에 보낸 메세지는 날짜만 표시")
+    public void formatPastDayTest() {
+        assertEquals("2023-04-27", ChatTimeFormatter.format(sentAt, LocalDate.of(2023, 4, 28)));
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.dto.ChatMessageDto;
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
+import com.sparta.village.domain.chat.dto.UnreadCountDto;
+import com.sparta.village.domain.chat.service.ChatMessageIdGenerator;
+import com.sparta.village.domain.chat.service.ChatMessageWriter;
+import com.sparta.village.domain.chat.service.ChatRoomParticipantCache;
+import com.sparta.village.domain.chat.service.ChatService;
+import com.sparta.village.domain.chat.service.ChatUnreadCounter;
+import com.sparta.village.domain.chat.service.PendingChatMessage;
+import com.sparta.village.global.exception.CustomException;
+import com.sparta.village.global.exception.ErrorCode;
+import com.sparta.village.global.websocket.ChatPrincipal;
+import com.sparta.village.global.websocket.MessageBroadcaster;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCountTest {
+    @Mock
+    private ChatMessageIdGenerator chatMessageIdGenerator;
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+    @Mock
+    private MessageBroadcaster messageBroadcaster;
+    @Mock
+    private ChatRoomParticipantCache chatRoomParticipantCache;
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+    @InjectMocks
+    private ChatService chatService;
+
+    @Test
+    @DisplayName("메세지를 보내면 상대방의 안 읽은 수 증가")
+    public void saveMessageIncrementsReceiverTest() {
+        //given
+        ChatPrincipal sender = new ChatPrincipal(1L, "sender");
+        doReturn(new ChatRoomParticipantsDto(1L, 2L)).when(chatRoomParticipantCache).get(10L);
+        doReturn(100L).when(chatMessageIdGenerator).nextId();
+        doReturn(new long[]{3L, 5L}).when(chatUnreadCounter).increment(10L, 2L);
+
+        //when
+        chatService.saveMessage(new ChatMessageDto(10L, "content"), sender);
+
+        //then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messageBroadcaster, times(1)).broadcast(eq("/sub/user/2/unread"), payload.capture());
+        UnreadCountDto unread = (UnreadCountDto) payload.getValue();
+        assertEquals(3L, unread.getUnreadCount());
+        assertEquals(5L, unread.getTotalUnreadCount());
+
+        //verify
+        verify(chatMessageWriter, times(1)).enqueue(any(PendingChatMessage.class));
+        verify(chatUnreadCounter, times(0)).increment(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("공백이거나 너무 긴 메세지는 브로드캐스트하지 않고 거절")
+    public void saveInvalidMessageTest() {
+        //given
+        ChatPrincipal sender = new ChatPrincipal(1L, "sender");
+
+        //when & then
+        for (String content : new String[]{null, " ", "a".repeat(256)}) {
+            CustomException exception = assertThrows(CustomException.class, () -> chatService.saveMessage(new ChatMessageDto(10L, content), sender));
+            assertEquals(ErrorCode.BAD_CHAT_MESSAGE, exception.getErrorCode());
+        }
+
+        //verify
+        verify(messageBroadcaster, times(0)).broadcast(anyString(), any());
+        verify(chatMessageWriter, times(0)).enqueue(any(PendingChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 방 읽음 처리")
+    public void markAsReadNotMemberTest() {
+        //given
+        doReturn(new ChatRoomParticipantsDto(1L, 2L)).when(chatRoomParticipantCache).get(10L);
+
+        //when & then
+        assertThrows(CustomException.class, () -> chatService.markAsRead(10L, 3L));
+        verify(chatUnreadCounter, times(0)).reset(anyLong(), anyLong());
+    }
+}
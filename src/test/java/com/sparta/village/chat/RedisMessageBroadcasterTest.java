@@ -0,0 +1,195 @@
+package com.sparta.village.chat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.village.domain.chat.dto.ChatMessageResponseDto;
+import com.sparta.village.global.websocket.RedisMessageBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//Docker 로 띄운 Redis 에 노드 두 개를 붙여서, 한 노드에서 보낸 메세지가 다른 노드에 연결된 구독자에게 전달되는지 확인
+//노드 하나는 서버 인스턴스 하나와 같은 구성 (자기 Redis 연결과 구독 + simple 브로커 + RedisMessageBroadcaster)
+@Testcontainers
+class RedisMessageBroadcasterTest {
+    private static final String CHANNEL = "chat:broadcast";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    public void init() throws Exception {
+        nodeA = new Node();
+        nodeB = new Node();
+        //두 노드의 Redis 구독이 붙을 때까지 확인용 메세지를 보냄
+        nodeA.subscribe("a-probe", "/sub/probe");
+        nodeB.subscribe("b-probe", "/sub/probe");
+        waitUntil(() -> {
+            nodeA.broadcaster.broadcast("/sub/probe", "ping");
+            return !nodeA.deliveredTo("a-probe").isEmpty() && !nodeB.deliveredTo("b-probe").isEmpty();
+        }, 10000);
+        Thread.sleep(200);
+        nodeA.delivered.clear();
+        nodeB.delivered.clear();
+    }
+
+    @AfterEach
+    public void close() throws Exception {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 A 에서 보낸 메세지가 노드 B 에 연결된 구독자에게 전달")
+    public void broadcastAcrossNodesTest() throws Exception {
+        //given
+        nodeA.subscribe("a-1", "/sub/chat/room/1");
+        nodeB.subscribe("b-1", "/sub/chat/room/1");
+        ChatMessageResponseDto message = new ChatMessageResponseDto(1L, "nickname", "content", "12:00", 10L, 1681999200000L);
+
+        //when
+        nodeA.broadcaster.broadcast("/sub/chat/room/1", message);
+
+        //then
+        waitUntil(() -> !nodeA.deliveredTo("a-1").isEmpty() && !nodeB.deliveredTo("b-1").isEmpty(), 5000);
+        Thread.sleep(200);
+        List<Message<?>> received = nodeB.deliveredTo("b-1");
+        assertEquals(1, received.size());
+        assertEquals("/sub/chat/room/1", SimpMessageHeaderAccessor.getDestination(received.get(0).getHeaders()));
+        JsonNode payload = payloadOf(received.get(0));
+        assertEquals("content", payload.get("content").asText());
+        assertEquals(10L, payload.get("messageId").asLong());
+        //보낸 노드의 구독자도 Redis 를 거쳐 한 번만 받음
+        assertEquals(1, nodeA.deliveredTo("a-1").size());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 구독자도 보낸 순서대로 받고, 구독하지 않은 방의 메세지는 받지 않음")
+    public void orderAndRoutingAcrossNodesTest() throws Exception {
+        //given
+        nodeB.subscribe("b-1", "/sub/chat/room/1");
+        nodeB.subscribe("b-2", "/sub/chat/room/2");
+
+        //when
+        for (long id = 1; id <= 50; id++) {
+            nodeA.broadcaster.broadcast("/sub/chat/room/1", new ChatMessageResponseDto(1L, "nickname", "content" + id, "12:00", id, 1681999200000L + id));
+        }
+
+        //then
+        waitUntil(() -> nodeB.deliveredTo("b-1").size() == 50, 5000);
+        List<Long> ids = nodeB.deliveredTo("b-1").stream().map(m -> payloadOf(m).get("messageId").asLong()).collect(Collectors.toList());
+        assertEquals(LongStream.rangeClosed(1, 50).boxed().collect(Collectors.toList()), ids);
+        assertTrue(nodeB.deliveredTo("b-2").isEmpty());
+    }
+
+    private JsonNode payloadOf(Message<?> message) {
+        try {
+            return objectMapper.readTree((byte[]) message.getPayload());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void waitUntil(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("condition not met within " + timeoutMs + "ms");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private class Node {
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer listenerContainer;
+        private final SimpleBrokerMessageHandler broker;
+        private final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        private final RedisMessageBroadcaster broadcaster;
+        //구독자 세션으로 나간 MESSAGE 프레임
+        private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+
+        private Node() throws Exception {
+            connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+
+            ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+            clientOutboundChannel.subscribe(message -> {
+                if (SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))) {
+                    delivered.add(message);
+                }
+            });
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/sub"));
+            broker.start();
+
+            MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+            converter.setObjectMapper(objectMapper);
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(converter);
+            broadcaster = new RedisMessageBroadcaster(new StringRedisTemplate(connectionFactory), template, objectMapper, listenerContainer, CHANNEL,
+                    new SimpleMeterRegistry().timer("chat.broadcast.latency"));
+        }
+
+        private void subscribe(String sessionId, String destination) {
+            SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+            SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setSubscriptionId("sub-" + sessionId);
+            subscribe.setDestination(destination);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        }
+
+        private List<Message<?>> deliveredTo(String sessionId) {
+            return delivered.stream().filter(m -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(m.getHeaders()))).collect(Collectors.toList());
+        }
+
+        private void close() throws Exception {
+            broker.stop();
+            listenerContainer.destroy();
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.sparta.village.chat;
+
+import com.sparta.village.domain.chat.dto.ChatRoomParticipantsDto;
+import com.sparta.village.domain.chat.service.ChatRoomParticipantCache;
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.entity.UserRoleEnum;
+import com.sparta.village.global.jwt.JwtUtil;
+import com.sparta.village.global.security.UserDetailsImpl;
+import com.sparta.village.global.websocket.ChatPrincipal;
+import com.sparta.village.global.websocket.StompAuthChannelInterceptor;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private ChatRoomParticipantCache chatRoomParticipantCache;
+    @Mock
+    private MessageChannel channel;
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    @Test
+    @DisplayName("CONNECT 시 토큰으로 사용자를 확인해서 세션에 저장")
+    public void connectTest() {
+        //given
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader(JwtUtil.AUTHORIZATION_HEADER, "Bearer token");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        Claims claims = mock(Claims.class);
+        User user = new User(1L, 12345L, "nickname", "profile", UserRoleEnum.USER, false);
+
+        UserDetailsImpl userDetails = new UserDetailsImpl(user, "12345");
+
+        doReturn(claims).when(jwtUtil).parseClaims("token");
+        doReturn(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())).when(jwtUtil).createAuthentication(claims);
+
+        //when
+        interceptor.preSend(message, channel);
+
+        //then
+        ChatPrincipal principal = (ChatPrincipal) sessionAttributes.get(StompAuthChannelInterceptor.PRINCIPAL_ATTRIBUTE);
+        assertEquals(1L, principal.getUserId());
+        assertEquals("nickname", principal.getNickname());
+    }
+
+    @Test
+    @DisplayName("stateless 토큰으로 CONNECT 하면 토큰이 아닌 현재 닉네임을 사용")
+    public void connectStatelessNicknameTest() {
+        //given
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader(JwtUtil.AUTHORIZATION_HEADER, "Bearer token");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        Claims claims = mock(Claims.class);
+        User user = new User(1L, 12345L, "newNickname", "profile", UserRoleEnum.USER, false);
+
+        UserDetailsImpl userDetails = UserDetailsImpl.fromClaims(1L, "12345", "oldNickname", UserRoleEnum.USER, () -> user);
+
+        doReturn(claims).when(jwtUtil).parseClaims("token");
+        doReturn(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())).when(jwtUtil).createAuthentication(claims);
+
+        //when
+        interceptor.preSend(message, channel);
+
+        //then
+        ChatPrincipal principal = (ChatPrincipal) sessionAttributes.get(StompAuthChannelInterceptor.PRINCIPAL_ATTRIBUTE);
+        assertEquals(1L, principal.getUserId());
+        assertEquals("newNickname", principal.getNickname());
+    }
+
+    @Test
+    @DisplayName("토큰 없이 CONNECT")
+    public void connectWithoutTokenTest() {
+        //given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionAttributes(new HashMap<>());
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        //when & then
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+        verify(jwtUtil, times(0)).createAuthentication(any(Claims.class));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 알림 경로 구독")
+    public void subscribeOtherUserTest() {
+        //given
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(StompAuthChannelInterceptor.PRINCIPAL_ATTRIBUTE, new ChatPrincipal(1L, "nickname"));
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/sub/user/2/reservation");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        //when & then
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 채팅방 구독")
+    public void subscribeRoomNonMemberTest() {
+        //given
+        doReturn(new ChatRoomParticipantsDto(2L, 3L)).when(chatRoomParticipantCache).get(10L);
+
+        //when & then
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(subscribe(1L, "/sub/chat/room/10"), channel));
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(subscribe(1L, "/sub/chat/room/10/presence"), channel));
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(subscribe(1L, "/sub/chat/room/10/typing"), channel));
+    }
+
+    @Test
+    @DisplayName("없는 채팅방이나 잘못된 경로 구독")
+    public void subscribeUnknownRoomTest() {
+        //given
+        doReturn(null).when(chatRoomParticipantCache).get(99L);
+
+        //when & then
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(subscribe(1L, "/sub/chat/room/99"), channel));
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(subscribe(1L, "/sub/chat/room/abc"), channel));
+    }
+
+    @Test
+    @DisplayName("참여 중인 채팅방 구독")
+    public void subscribeRoomMemberTest() {
+        //given
+        doReturn(new ChatRoomParticipantsDto(1L, 3L)).when(chatRoomParticipantCache).get(10L);
+        Message<byte[]> message = subscribe(1L, "/sub/chat/room/10/presence");
+
+        //when
+        Message<?> result = interceptor.preSend(message, channel);
+
+        //then
+        assertSame(message, result);
+    }
+
+    private Message<byte[]> subscribe(Long userId, String destination) {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(StompAuthChannelInterceptor.PRINCIPAL_ATTRIBUTE, new ChatPrincipal(userId, "nickname"));
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
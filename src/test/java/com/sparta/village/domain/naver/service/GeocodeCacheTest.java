@@ -0,0 +1,134 @@
+package com.sparta.village.domain.naver.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodeCacheTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GeocodeCache geocodeCache;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        geocodeCache = new GeocodeCache(redisTemplate, meterRegistry, 100, 10, 24, 4);
+        lenient().doReturn(valueOperations).when(redisTemplate).opsForValue();
+    }
+
+    @Test
+    @DisplayName("공백만 다른 주소는 한 번만 네이버로 요청")
+    public void geocodeNormalizeTest() {
+        //given
+        List<String> queries = new ArrayList<>();
+
+        //when
+        String first = geocodeCache.getGeocode("서울  강남구 ", query -> {
+            queries.add(query);
+            return "{\"status\":\"OK\"}";
+        });
+        String second = geocodeCache.getGeocode(" 서울 강남구", query -> {
+            queries.add(query);
+            return "other";
+        });
+
+        //then
+        assertEquals(first, second);
+        assertEquals(List.of("서울 강남구"), queries);
+        assertEquals(1.0, meterRegistry.get("map.cache.requests").tag("type", "geocode").tag("result", "local").counter().count());
+        assertEquals(1.0, meterRegistry.get("map.cache.requests").tag("type", "geocode").tag("result", "miss").counter().count());
+
+        //verify
+        verify(valueOperations, times(1)).set(eq("map:geocode:서울 강남구"), eq("{\"status\":\"OK\"}"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("같은 격자 안의 좌표는 같은 결과를 사용")
+    public void reverseGeocodeGridTest() {
+        //given
+        List<String> queries = new ArrayList<>();
+
+        //when
+        geocodeCache.getReverseGeocode("127.105399,37.3595704", query -> {
+            queries.add(query);
+            return "경기도 성남시";
+        });
+        String result = geocodeCache.getReverseGeocode("127.10541,37.35961", query -> {
+            queries.add(query);
+            return "other";
+        });
+
+        //then
+        assertEquals("경기도 성남시", result);
+        assertEquals(List.of("127.1054,37.3596"), queries);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 Redis 에 넣어둔 결과를 사용")
+    public void redisHitTest() {
+        //given
+        doReturn("cached").when(valueOperations).get("map:gc:127.1054,37.3596");
+
+        //when
+        String result = geocodeCache.getReverseGeocode("127.10540,37.35960", query -> fail("should not call upstream"));
+
+        //then
+        assertEquals("cached", result);
+        assertEquals(1.0, meterRegistry.get("map.cache.requests").tag("type", "reverse").tag("result", "redis").counter().count());
+    }
+
+    @Test
+    @DisplayName("좌표 형식이 아니면 캐시하지 않고 그대로 요청")
+    public void invalidCoordsTest() {
+        //when
+        String result = geocodeCache.getReverseGeocode("abc", query -> query + "!");
+
+        //then
+        assertEquals("abc!", result);
+        verify(valueOperations, times(0)).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("좌표 범위를 벗어나거나 유한한 숫자가 아니면 캐시 키로 쓰지 않음")
+    public void outOfRangeCoordsTest() {
+        //when & then
+        for (String coords : new String[]{"1e10000000,0", "1e999999999,0", "180.1,37", "127,-90.1", "NaN,37", "Infinity,37"}) {
+            assertNull(geocodeCache.snapCoords(coords));
+        }
+        assertEquals("180.0000,-90.0000", geocodeCache.snapCoords("180,-90"));
+        assertEquals("127.1055,37.3596", geocodeCache.snapCoords(" 127.10545 , 37.35961 "));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 네이버 결과를 돌려줌")
+    public void redisFailureTest() {
+        //given
+        doThrow(new RuntimeException("redis down")).when(valueOperations).get(anyString());
+
+        //when
+        String result = geocodeCache.getGeocode("서울", query -> "ok");
+
+        //then
+        assertEquals("ok", result);
+    }
+}
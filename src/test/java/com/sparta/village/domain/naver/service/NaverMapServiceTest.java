@@ -1,5 +1,6 @@
 package com.sparta.village.domain.naver.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
-import static com.sparta.village.domain.naver.service.NaverMapService.findValueByKey;
+import java.util.function.Function;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +34,19 @@ class NaverMapServiceTest {
     private ArgumentCaptor<String> urlCaptor;
     @Captor
     private ArgumentCaptor<HttpEntity<String>> httpEntityCaptor;
+    @Captor
+    private ArgumentCaptor<Object> variableCaptor;
+    @Mock
+    private GeocodeCache geocodeCache;
+
+    @BeforeEach
+    public void init() {
+        //캐시는 그대로 통과시켜서 네이버 호출 부분만 검증
+        lenient().doAnswer(invocation -> invocation.<Function<String, String>>getArgument(1).apply(invocation.getArgument(0)))
+                .when(geocodeCache).getGeocode(anyString(), any());
+        lenient().doAnswer(invocation -> invocation.<Function<String, String>>getArgument(1).apply(invocation.getArgument(0)))
+                .when(geocodeCache).getReverseGeocode(anyString(), any());
+    }
 
     @Test
     @DisplayName("Geocode Test")
@@ -41,7 +56,7 @@ class NaverMapServiceTest {
         String expectedResponse = "{\"result\": \"Test Result\"}";
 
         ResponseEntity<String> responseEntity = new ResponseEntity<>(expectedResponse, HttpStatus.OK);
-        when(restTemplate.exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class))).thenReturn(responseEntity);
+        when(restTemplate.exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class), variableCaptor.capture())).thenReturn(responseEntity);
 
         // When
         String result = naverMapService.geocode(address);
@@ -50,13 +65,14 @@ class NaverMapServiceTest {
         assertEquals(expectedResponse, result);
 
         String actualUrl = urlCaptor.getValue();
-        assertTrue(actualUrl.contains(address));
+        assertTrue(actualUrl.endsWith("/map-geocode/v2/geocode?query={query}"));
+        assertEquals(address, variableCaptor.getValue());
 
         HttpHeaders actualHeaders = httpEntityCaptor.getValue().getHeaders();
         assertTrue(actualHeaders.containsKey("X-NCP-APIGW-API-KEY-ID"));
         assertTrue(actualHeaders.containsKey("X-NCP-APIGW-API-KEY"));
 
-        verify(restTemplate).exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class));
+        verify(restTemplate).exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class), variableCaptor.capture());
     }
 
     @Test
@@ -67,7 +83,7 @@ class NaverMapServiceTest {
         String responseBody = "your_response_body_here"; // Replace this with your actual response body
 
         ResponseEntity<String> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class))).thenReturn(responseEntity);
+        when(restTemplate.exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class), variableCaptor.capture())).thenReturn(responseEntity);
 
         // When
         String result = naverMapService.reverseGeocode(coords);
@@ -76,28 +92,13 @@ class NaverMapServiceTest {
         assertNotNull(result); // Add more specific assertions depending on the expected result
 
         String actualUrl = urlCaptor.getValue();
-        assertTrue(actualUrl.contains(coords));
+        assertTrue(actualUrl.contains("coords={coords}"));
+        assertEquals(coords, variableCaptor.getValue());
 
         HttpHeaders actualHeaders = httpEntityCaptor.getValue().getHeaders();
         assertTrue(actualHeaders.containsKey("X-NCP-APIGW-API-KEY-ID"));
         assertTrue(actualHeaders.containsKey("X-NCP-APIGW-API-KEY"));
 
-        verify(restTemplate).exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class));
+        verify(restTemplate).exchange(urlCaptor.capture(), eq(HttpMethod.GET), httpEntityCaptor.capture(), eq(String.class), variableCaptor.capture());
     }
-
-    @Test
-    @DisplayName("Find Value By Key Test - Match Found")
-    public void testFindValueByKeyMatchFound() {
-        // Given
-        String jsonString = "{\"key1\": \"value1\", \"key2\": \"value2\", \"key3\": \"value3\"}";
-        String regex = "\"key2\":\\s*\"(.*?)\"";
-
-        // When
-        String result = findValueByKey(jsonString, regex);
-
-        // Then
-        assertNotNull(result);
-        assertEquals("value2", result);
-    }
-
-}
\ No newline at end of file
+}
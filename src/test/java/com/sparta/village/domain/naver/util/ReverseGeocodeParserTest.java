@@ -0,0 +1,89 @@
+package com.sparta.village.domain.naver.util;
+
+import com.sparta.village.domain.naver.dto.ReverseGeocodeResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReverseGeocodeParserTest {
+    //네이버 reverse geocode (orders=roadaddr) 실제 응답 형태
+    private static final String RESPONSE = "{\"status\":{\"code\":0,\"name\":\"ok\",\"message\":\"done\"},\"results\":[{\"name\":\"roadaddr\"," +
+            "\"code\":{\"id\":\"4113510900\",\"type\":\"L\",\"mappingId\":\"02135109\"}," +
+            "\"region\":{\"area0\":{\"name\":\"kr\",\"coords\":{\"center\":{\"crs\":\"\",\"x\":0.0,\"y\":0.0}}}," +
+            "\"area1\":{\"name\":\"경기도\",\"coords\":{\"center\":{\"crs\":\"EPSG:4326\",\"x\":127.550802,\"y\":37.4363177}},\"alias\":\"경기\"}," +
+            "\"area2\":{\"name\":\"성남시 분당구\",\"coords\":{\"center\":{\"crs\":\"EPSG:4326\",\"x\":127.1189255,\"y\":37.3827287}},\"alias\":\"\"}," +
+            "\"area3\":{\"name\":\"정자동\",\"coords\":{\"center\":{\"crs\":\"EPSG:4326\",\"x\":127.1100502,\"y\":37.3664655}},\"alias\":\"\"}," +
+            "\"area4\":{\"name\":\"\",\"coords\":{\"center\":{\"crs\":\"\",\"x\":0.0,\"y\":0.0}},\"alias\":\"\"}}," +
+            "\"land\":{\"type\":\"\",\"number1\":\"6\",\"number2\":\"\"," +
+            "\"addition0\":{\"type\":\"building\",\"value\":\"그린팩토리\"},\"addition1\":{\"type\":\"zipcode\",\"value\":\"13561\"}," +
+            "\"addition2\":{\"type\":\"roadGroupCode\",\"value\":\"414653205024\"},\"addition3\":{\"type\":\"\",\"value\":\"\"}," +
+            "\"addition4\":{\"type\":\"\",\"value\":\"\"},\"name\":\"불정로\",\"coords\":{\"center\":{\"crs\":\"\",\"x\":0.0,\"y\":0.0}}}}]}";
+
+    @Test
+    @DisplayName("reverse geocode 응답에서 주소 항목 추출")
+    public void parseTest() {
+        //when
+        ReverseGeocodeResult result = ReverseGeocodeParser.parse(RESPONSE);
+
+        //then
+        assertEquals("경기", result.getArea1());
+        assertEquals("성남시 분당구", result.getArea2());
+        assertEquals("불정로", result.getLandName());
+        assertEquals("6", result.getLandNumber());
+        assertEquals("그린팩토리", result.getAddition());
+        assertEquals("경기 성남시 분당구 불정로 6 그린팩토리", result.toAddress());
+    }
+
+    @Test
+    @DisplayName("필드 순서가 바뀌거나 중첩 객체가 앞에 있어도 추출")
+    public void fieldOrderTest() {
+        //given
+        //정규식 방식은 area2 의 name 앞에 중첩 객체가 있으면 찾지 못했음
+        String json = "{\"results\":[{\"land\":{\"coords\":{\"center\":{\"x\":1.0}},\"name\":\"불정로\",\"number1\":\"6\"}," +
+                "\"region\":{\"area2\":{\"coords\":{\"center\":{\"x\":1.0}},\"name\":\"성남시 분당구\"},\"area1\":{\"alias\":\"경기\",\"name\":\"경기도\"}}}]}";
+
+        //when
+        ReverseGeocodeResult result = ReverseGeocodeParser.parse(json);
+
+        //then
+        assertEquals("경기 성남시 분당구 불정로 6", result.toAddress());
+    }
+
+    @Test
+    @DisplayName("이스케이프된 따옴표가 있는 값")
+    public void escapedValueTest() {
+        //given
+        String json = "{\"results\":[{\"land\":{\"name\":\"불정로\",\"addition0\":{\"type\":\"building\",\"value\":\"\\\"그린\\\" 팩토리\"}}}]}";
+
+        //when
+        ReverseGeocodeResult result = ReverseGeocodeParser.parse(json);
+
+        //then
+        assertEquals("\"그린\" 팩토리", result.getAddition());
+    }
+
+    @Test
+    @DisplayName("alias 가 없으면 area1 name 사용, 없는 항목은 주소에서 제외")
+    public void missingFieldTest() {
+        //given
+        String json = "{\"results\":[{\"region\":{\"area1\":{\"name\":\"서울특별시\",\"alias\":\"\"},\"area2\":{\"name\":\"강남구\"}}}]}";
+
+        //when
+        ReverseGeocodeResult result = ReverseGeocodeParser.parse(json);
+
+        //then
+        assertEquals("서울특별시", result.getArea1());
+        assertNull(result.getLandName());
+        assertEquals("서울특별시 강남구", result.toAddress());
+    }
+
+    @Test
+    @DisplayName("결과가 없거나 JSON 이 아닌 응답")
+    public void emptyResponseTest() {
+        assertEquals("", ReverseGeocodeParser.parse("{\"status\":{\"code\":3,\"name\":\"no results\"},\"results\":[]}").toAddress());
+        assertEquals("", ReverseGeocodeParser.parse("not json").toAddress());
+        assertEquals("", ReverseGeocodeParser.parse("{\"results\":[{\"region\":").toAddress());
+        assertSame(ReverseGeocodeResult.EMPTY, ReverseGeocodeParser.parse(null));
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.village.domain.user.service;
+
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.entity.UserRoleEnum;
+import com.sparta.village.domain.user.repository.UserRepository;
+import com.sparta.village.global.exception.CustomException;
+import com.sparta.village.global.exception.ErrorCode;
+import com.sparta.village.global.jwt.JwtUtil;
+import com.sparta.village.global.jwt.RefreshTokenStore;
+import com.sparta.village.global.jwt.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthTokenServiceTest {
+    @InjectMocks
+    private AuthTokenService authTokenService;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("refresh token 으로 새 토큰 쌍 발급")
+    public void refreshTest() {
+        //given
+        User user = new User(1L, 12345L, "nickname", "profile", UserRoleEnum.USER, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        doReturn(12345L).when(refreshTokenStore).consume("refresh");
+        doReturn(Optional.of(user)).when(userRepository).findByKakaoId(12345L);
+        doReturn("Bearer access").when(jwtUtil).createToken(user);
+        doReturn("next-refresh").when(refreshTokenStore).issue(12345L);
+
+        //when
+        authTokenService.refresh("refresh", response);
+
+        //then
+        assertEquals("Bearer access", response.getHeader(JwtUtil.AUTHORIZATION_HEADER));
+        assertEquals("next-refresh", response.getHeader(JwtUtil.REFRESH_TOKEN_HEADER));
+    }
+
+    @Test
+    @DisplayName("이미 사용했거나 만료된 refresh token")
+    public void refreshWithUsedTokenTest() {
+        //given
+        doReturn(null).when(refreshTokenStore).consume("used");
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> authTokenService.refresh("used", new MockHttpServletResponse()));
+
+        //then
+        assertEquals(ErrorCode.INVALID_REFRESH_TOKEN, exception.getErrorCode());
+        verify(jwtUtil, times(0)).createToken(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 access token 은 폐기 목록에 올리고 refresh token 은 삭제")
+    public void logoutTest() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtUtil.REFRESH_TOKEN_HEADER, "refresh");
+        Claims claims = mock(Claims.class);
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        doReturn("access").when(jwtUtil).resolveToken(request);
+        doReturn(claims).when(jwtUtil).parseClaims("access");
+        doReturn("jti").when(claims).getId();
+        doReturn(expiration).when(claims).getExpiration();
+
+        //when
+        authTokenService.logout(request);
+
+        //then
+        verify(tokenRevocationList, times(1)).revoke("jti", expiration);
+        verify(refreshTokenStore, times(1)).revoke("refresh");
+    }
+
+    @Test
+    @DisplayName("만료된 access token 으로 로그아웃해도 refresh token 은 삭제")
+    public void logoutWithExpiredAccessTokenTest() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtUtil.REFRESH_TOKEN_HEADER, "refresh");
+        doReturn("expired").when(jwtUtil).resolveToken(request);
+        doReturn(null).when(jwtUtil).parseClaims("expired");
+
+        //when
+        authTokenService.logout(request);
+
+        //then
+        verify(refreshTokenStore, times(1)).revoke("refresh");
+        verify(tokenRevocationList, times(0)).revoke(any(), any());
+    }
+}
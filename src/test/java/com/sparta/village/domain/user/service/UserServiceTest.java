@@ -6,18 +6,22 @@ import com.sparta.village.domain.product.repository.ProductRepository;
 import com.sparta.village.domain.reservation.entity.Reservation;
 import com.sparta.village.domain.reservation.repository.ReservationRepository;
 import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.event.NicknameChangedEvent;
 import com.sparta.village.domain.user.repository.UserRepository;
 import com.sparta.village.domain.zzim.entity.Zzim;
 import com.sparta.village.domain.zzim.repository.ZzimRepository;
 import com.sparta.village.global.exception.CustomException;
 import com.sparta.village.global.exception.ErrorCode;
 import com.sparta.village.global.exception.ResponseMessage;
+import com.sparta.village.global.security.UserDetailsServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -44,6 +48,10 @@ class UserServiceTest {
     private ZzimRepository zzimRepository;
     @Mock
     private ImageStorageService imageStorageService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
     @Test
     @DisplayName("닉네임 변경-정상케이스")
     public void testUpdateNickname() {
@@ -67,6 +75,11 @@ class UserServiceTest {
 
         //verify
         verify(userRepository).save(user);
+        verify(userDetailsService).evict(123L);
+        ArgumentCaptor<NicknameChangedEvent> event = ArgumentCaptor.forClass(NicknameChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals("닉네임", event.getValue().getOldNickname());
+        assertEquals(newNickname, event.getValue().getNewNickname());
     }
 
     @Test
@@ -333,5 +346,6 @@ class UserServiceTest {
 
         assertEquals(newProfile1, user.getProfile());
         verify(userRepository, times(1)).saveAndFlush(user);
+        verify(userDetailsService, times(1)).evict(123L);
     }
 }
\ No newline at end of file
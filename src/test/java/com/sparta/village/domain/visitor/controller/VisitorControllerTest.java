@@ -0,0 +1,54 @@
+package com.sparta.village.domain.visitor.controller;
+
+import com.sparta.village.domain.visitor.service.VisitorStatService;
+import com.sparta.village.global.exception.CustomException;
+import com.sparta.village.global.exception.ErrorCode;
+import com.sparta.village.global.exception.ResponseMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorControllerTest {
+    @InjectMocks
+    private VisitorController visitorController;
+    @Mock
+    private VisitorStatService visitorStatService;
+
+    @Test
+    @DisplayName("방문자 통계 조회")
+    public void getStatsTest() {
+        //given
+        doReturn(ResponseMessage.SuccessResponse("방문자 통계 조회 성공", "")).when(visitorStatService).getStats(72, 366);
+
+        //when
+        ResponseEntity<ResponseMessage> response = visitorController.getStats(72, 366);
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(visitorStatService).getStats(72, 366);
+    }
+
+    @Test
+    @DisplayName("조회 범위를 벗어난 요청")
+    public void getStatsOutOfRangeTest() {
+        //when & then
+        int[][] invalid = {{0, 7}, {73, 7}, {24, 0}, {24, 367}};
+        for (int[] params : invalid) {
+            CustomException exception = assertThrows(CustomException.class, () -> visitorController.getStats(params[0], params[1]));
+            assertEquals(ErrorCode.BAD_PARAMETER, exception.getErrorCode());
+        }
+
+        //verify
+        verify(visitorStatService, times(0)).getStats(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,138 @@
+package com.sparta.village.domain.visitor.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorCounterTest {
+    @Mock
+    private RedisTemplate<String, Integer> redisTemplate;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, Integer> valueOperations;
+    @Mock
+    private ValueOperations<String, String> stringValueOperations;
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+    private VisitorCounter visitorCounter;
+
+    @BeforeEach
+    public void init() {
+        visitorCounter = new VisitorCounter(redisTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("모아둔 방문 수를 누적 카운터와 시간별 버킷에 한 번에 반영하고 순 방문자 수를 갱신")
+    public void flushTest() {
+        //given
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        doReturn(10L).when(valueOperations).increment(VisitorCounter.VISITOR_COUNT_KEY, 3L);
+        doReturn(stringValueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(hyperLogLogOperations).when(stringRedisTemplate).opsForHyperLogLog();
+        doReturn(2L).when(hyperLogLogOperations).size(VisitorCounter.uniqueKey(VisitorCounter.today()));
+        visitorCounter.record("u:1");
+        visitorCounter.record("u:1");
+        visitorCounter.record("ip:abc");
+
+        //when
+        visitorCounter.flush();
+
+        //then
+        ArgumentCaptor<String> visitors = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(1)).increment(VisitorCounter.VISITOR_COUNT_KEY, 3L);
+        verify(stringValueOperations, times(1)).increment(startsWith("visitor:hour:"), eq(3L));
+        verify(hyperLogLogOperations, times(1)).add(eq(VisitorCounter.uniqueKey(VisitorCounter.today())), visitors.capture());
+        assertEquals(Set.of("u:1", "ip:abc"), Set.copyOf(visitors.getAllValues()));
+        assertEquals(2L, visitorCounter.getUniqueVisitorCount());
+        assertEquals(10L, visitorCounter.getTotalVisitorCount());
+    }
+
+    @Test
+    @DisplayName("방문이 없으면 방문 수를 보내지 않고 누적 방문 수만 다시 읽음")
+    public void flushWithoutVisitsTest() {
+        //given
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        doReturn(7).when(valueOperations).get(VisitorCounter.VISITOR_COUNT_KEY);
+        doReturn(hyperLogLogOperations).when(stringRedisTemplate).opsForHyperLogLog();
+
+        //when
+        visitorCounter.flush();
+
+        //then
+        assertEquals(7L, visitorCounter.getTotalVisitorCount());
+        verify(valueOperations, times(0)).increment(anyString(), anyLong());
+        verify(stringRedisTemplate, times(0)).opsForValue();
+        verify(hyperLogLogOperations, times(0)).add(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 반영하지 못한 방문 수는 다음 flush 에 다시 보냄")
+    public void flushRetryTest() {
+        //given
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        doThrow(new RuntimeException("redis down")).doReturn(2L).when(valueOperations).increment(VisitorCounter.VISITOR_COUNT_KEY, 2L);
+        doReturn(stringValueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(hyperLogLogOperations).when(stringRedisTemplate).opsForHyperLogLog();
+        visitorCounter.record("u:1");
+        visitorCounter.record("u:2");
+
+        //when
+        visitorCounter.flush();
+        visitorCounter.flush();
+
+        //then
+        assertEquals(2L, visitorCounter.getTotalVisitorCount());
+
+        //verify
+        verify(valueOperations, times(2)).increment(VisitorCounter.VISITOR_COUNT_KEY, 2L);
+        verify(stringValueOperations, times(1)).increment(startsWith("visitor:hour:"), eq(2L));
+    }
+
+    @Test
+    @DisplayName("flush 직전에 set 을 가져간 요청이 늦게 추가한 방문자도 다음 flush 에 반영")
+    @SuppressWarnings("unchecked")
+    public void lateVisitorTest() {
+        //given
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        doReturn(stringValueOperations).when(stringRedisTemplate).opsForValue();
+        doReturn(hyperLogLogOperations).when(stringRedisTemplate).opsForHyperLogLog();
+        visitorCounter.record("u:1");
+        //record() 가 computeIfAbsent 로 set 을 가져간 뒤 아직 add 하지 않은 상태
+        Map<String, Set<String>> pendingVisitors = (Map<String, Set<String>>) ReflectionTestUtils.getField(visitorCounter, "pendingVisitors");
+        Set<String> stale = pendingVisitors.get(VisitorCounter.today());
+
+        //when
+        visitorCounter.flush();
+        stale.add("u:late");
+        visitorCounter.flush();
+
+        //then
+        ArgumentCaptor<String> visitors = ArgumentCaptor.forClass(String.class);
+        verify(hyperLogLogOperations, times(2)).add(eq(VisitorCounter.uniqueKey(VisitorCounter.today())), visitors.capture());
+        assertEquals(List.of("u:1", "u:late"), visitors.getAllValues());
+    }
+}
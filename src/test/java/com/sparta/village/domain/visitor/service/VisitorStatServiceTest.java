@@ -0,0 +1,162 @@
+package com.sparta.village.domain.visitor.service;
+
+import com.sparta.village.domain.visitor.dto.DailyVisitDto;
+import com.sparta.village.domain.visitor.dto.HourlyVisitDto;
+import com.sparta.village.domain.visitor.dto.VisitorStatsResponseDto;
+import com.sparta.village.domain.visitor.entity.VisitorDailyStat;
+import com.sparta.village.domain.visitor.repository.VisitorDailyStatRepository;
+import com.sparta.village.global.exception.ResponseMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorStatServiceTest {
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+    @Mock
+    private VisitorDailyStatRepository visitorDailyStatRepository;
+    @Mock
+    private VisitorCounter visitorCounter;
+    @InjectMocks
+    private VisitorStatService visitorStatService;
+
+    private final LocalDate date = LocalDate.of(2023, 3, 1);
+
+    @BeforeEach
+    public void init() {
+        lenient().doReturn(valueOperations).when(stringRedisTemplate).opsForValue();
+        lenient().doReturn(hyperLogLogOperations).when(stringRedisTemplate).opsForHyperLogLog();
+    }
+
+    //0시 5회, 13시 10회, 나머지 시간은 버킷 없음
+    private List<String> hourlyValues() {
+        List<String> values = new ArrayList<>(Arrays.asList(new String[24]));
+        values.set(0, "5");
+        values.set(13, "10");
+        return values;
+    }
+
+    @Test
+    @DisplayName("24개 시간별 버킷과 순 방문자 수를 합쳐 일별 기록 생성")
+    public void rollupDayTest() {
+        //given
+        doReturn(hourlyValues()).when(valueOperations).multiGet(anyList());
+        doReturn(4L).when(hyperLogLogOperations).size(VisitorCounter.uniqueKey("20230301"));
+        doReturn(Optional.empty()).when(visitorDailyStatRepository).findByStatDate(date);
+
+        //when
+        visitorStatService.rollupDay(date);
+
+        //then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(valueOperations).multiGet(keys.capture());
+        assertEquals(24, keys.getValue().size());
+        assertEquals(VisitorCounter.hourKey(date.atTime(0, 0)), keys.getValue().get(0));
+        assertEquals(VisitorCounter.hourKey(date.atTime(23, 0)), keys.getValue().get(23));
+
+        ArgumentCaptor<VisitorDailyStat> stat = ArgumentCaptor.forClass(VisitorDailyStat.class);
+        verify(visitorDailyStatRepository).save(stat.capture());
+        assertEquals(date, stat.getValue().getStatDate());
+        assertEquals(15L, stat.getValue().getVisitCount());
+        assertEquals(4L, stat.getValue().getUniqueVisitorCount());
+    }
+
+    @Test
+    @DisplayName("이미 있는 일별 기록은 새로 만들지 않고 값만 갱신")
+    public void rollupDayUpsertTest() {
+        //given
+        VisitorDailyStat existing = new VisitorDailyStat(date);
+        existing.updateCounts(1L, 1L);
+        doReturn(hourlyValues()).when(valueOperations).multiGet(anyList());
+        doReturn(4L).when(hyperLogLogOperations).size(VisitorCounter.uniqueKey("20230301"));
+        doReturn(Optional.of(existing)).when(visitorDailyStatRepository).findByStatDate(date);
+
+        //when
+        visitorStatService.rollupDay(date);
+
+        //then
+        assertEquals(15L, existing.getVisitCount());
+        assertEquals(4L, existing.getUniqueVisitorCount());
+
+        //verify
+        verify(visitorDailyStatRepository).save(same(existing));
+    }
+
+    @Test
+    @DisplayName("방문 기록이 없는 날은 저장하지 않음")
+    public void rollupEmptyDayTest() {
+        //given
+        doReturn(Arrays.asList(new String[24])).when(valueOperations).multiGet(anyList());
+        doReturn(0L).when(hyperLogLogOperations).size(VisitorCounter.uniqueKey("20230301"));
+
+        //when
+        visitorStatService.rollupDay(date);
+
+        //then
+        verify(visitorDailyStatRepository, times(0)).findByStatDate(any());
+        verify(visitorDailyStatRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("최근 시간별 방문 수(없는 버킷은 0)와 일별 기록, 누적 방문 수 조회")
+    public void getStatsTest() {
+        //given
+        doReturn(Arrays.asList("5", null, "2")).when(valueOperations).multiGet(anyList());
+        doReturn(List.of(new VisitorDailyStat(date))).when(visitorDailyStatRepository).findByStatDateBetweenOrderByStatDate(any(), any());
+        doReturn(100L).when(visitorCounter).getTotalVisitorCount();
+
+        //when
+        ResponseEntity<ResponseMessage> response = visitorStatService.getStats(3, 7);
+
+        //then
+        VisitorStatsResponseDto stats = (VisitorStatsResponseDto) response.getBody().getData();
+        assertEquals(100L, stats.getTotalVisitorCount());
+        List<HourlyVisitDto> hourly = stats.getHourly();
+        assertEquals(List.of(5L, 0L, 2L), hourly.stream().map(HourlyVisitDto::getVisitCount).toList());
+        //오래된 시간부터 한 시간 간격
+        assertEquals(hourly.get(0).getHour().plusHours(1), hourly.get(1).getHour());
+        assertEquals(hourly.get(1).getHour().plusHours(1), hourly.get(2).getHour());
+        assertEquals(hourly.get(2).getHour(), hourly.get(2).getHour().truncatedTo(ChronoUnit.HOURS));
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(valueOperations).multiGet(keys.capture());
+        assertEquals(hourly.stream().map(h -> VisitorCounter.hourKey(h.getHour())).toList(), keys.getValue());
+
+        List<DailyVisitDto> daily = stats.getDaily();
+        assertEquals(1, daily.size());
+        assertEquals(date, daily.get(0).getDate());
+
+        //verify
+        ArgumentCaptor<LocalDate> from = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<LocalDate> to = ArgumentCaptor.forClass(LocalDate.class);
+        verify(visitorDailyStatRepository).findByStatDateBetweenOrderByStatDate(from.capture(), to.capture());
+        assertEquals(from.getValue().plusDays(6), to.getValue());
+        assertEquals(hourly.get(2).getHour().toLocalDate(), to.getValue());
+    }
+}
@@ -0,0 +1,129 @@
+package com.sparta.village.global.config;
+
+import com.sparta.village.domain.naver.service.GeocodeCache;
+import com.sparta.village.domain.naver.service.NaverMapService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+//로컬 stub 서버(JDK HttpServer)에 실제로 요청을 보내서 커넥션 재사용과 타임아웃을 확인
+class HttpClientConfigTest {
+    private HttpServer server;
+    private String baseUrl;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final List<String> requestUris = new CopyOnWriteArrayList<>();
+    private final List<String> apiKeyHeaders = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/map-geocode", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            requestUris.add(exchange.getRequestURI().getQuery());
+            apiKeyHeaders.add(exchange.getRequestHeaders().getFirst("X-NCP-APIGW-API-KEY-ID"));
+            respond(exchange, "{\"status\":\"OK\"}");
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 10);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 2);
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", 500);
+        ReflectionTestUtils.setField(config, "readTimeoutMs", 300);
+        ReflectionTestUtils.setField(config, "poolTimeoutMs", 500);
+        ReflectionTestUtils.setField(config, "keepAliveMs", 30000L);
+        meterRegistry = new SimpleMeterRegistry();
+        httpClient = config.httpClient(meterRegistry);
+        restTemplate = config.restTemplate(new RestTemplateBuilder(), httpClient);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("NaverMapService 요청이 stub 서버로 가고 커넥션을 재사용, 같은 주소는 캐시에서 응답")
+    public void geocodeAgainstStubServerTest() {
+        //given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doReturn(mock(ValueOperations.class)).when(redisTemplate).opsForValue();
+        GeocodeCache geocodeCache = new GeocodeCache(redisTemplate, meterRegistry, 100, 10, 24, 4);
+        NaverMapService naverMapService = new NaverMapService(restTemplate, geocodeCache);
+        ReflectionTestUtils.setField(naverMapService, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(naverMapService, "clientId", "client-id");
+        ReflectionTestUtils.setField(naverMapService, "clientSecret", "client-secret");
+
+        //when
+        String first = naverMapService.geocode("서울 강남구");
+        naverMapService.geocode("서울 서초구");
+        naverMapService.geocode("서울 송파구");
+        naverMapService.geocode(" 서울  강남구 ");
+
+        //then
+        assertEquals("{\"status\":\"OK\"}", first);
+        assertEquals("query=서울 강남구", requestUris.get(0));
+        assertEquals(3, requestUris.size(), "same address after normalization should be served from cache");
+        assertEquals("client-id", apiKeyHeaders.get(0));
+        assertEquals(1, clientPorts.size(), "keep-alive connection should be reused");
+        assertEquals(0.0, meterRegistry.get("http.client.pool.leased").gauge().value());
+        assertEquals(1.0, meterRegistry.get("http.client.pool.available").gauge().value());
+    }
+
+    @Test
+    @DisplayName("응답이 read timeout 보다 늦으면 기다리지 않고 실패")
+    public void readTimeoutTest() {
+        //given
+        long start = System.currentTimeMillis();
+
+        //when & then
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        assertTrue(System.currentTimeMillis() - start < 1500);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.village.global.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 포함된 것으로 판단")
+    public void noFalseNegativeTest() {
+        //given
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        //when & then
+        for (String value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 오탐 비율이 설정값 근처")
+    public void falsePositiveRateTest() {
+        //given
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
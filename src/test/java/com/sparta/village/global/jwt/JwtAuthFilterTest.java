@@ -0,0 +1,66 @@
+package com.sparta.village.global.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+    @Mock
+    private JwtUtil jwtUtil;
+    @InjectMocks
+    private JwtAuthFilter jwtAuthFilter;
+
+    @Test
+    @DisplayName("만료된 access token 을 보내도 토큰 재발급과 로그아웃은 통과")
+    public void tokenOptionalPathTest() throws ServletException, IOException {
+        for (String path : new String[]{"/users/token", "/users/logout"}) {
+            //given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+            request.addHeader(JwtUtil.AUTHORIZATION_HEADER, "Bearer expired");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            //when
+            jwtAuthFilter.doFilter(request, response, chain);
+
+            //then
+            assertSame(request, chain.getRequest());
+            assertEquals(200, response.getStatus());
+        }
+
+        //verify
+        verify(jwtUtil, times(0)).parseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("그 외 경로는 유효하지 않은 토큰이면 401")
+    public void invalidTokenTest() throws ServletException, IOException {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/token");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, "Bearer expired");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        doReturn("expired").when(jwtUtil).resolveToken(request);
+        doReturn(null).when(jwtUtil).parseClaims("expired");
+
+        //when
+        jwtAuthFilter.doFilter(request, response, chain);
+
+        //then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+}
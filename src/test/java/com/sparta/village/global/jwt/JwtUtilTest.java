@@ -0,0 +1,126 @@
+package com.sparta.village.global.jwt;
+
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.entity.UserRoleEnum;
+import com.sparta.village.global.security.UserDetailsImpl;
+import com.sparta.village.global.security.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtUtilTest {
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtUtil jwtUtil;
+    private final User user = new User(1L, 12345L, "nickname", "profile", UserRoleEnum.USER, false);
+
+    @BeforeEach
+    public void init() {
+        jwtUtil = new JwtUtil(userDetailsService, tokenRevocationList);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheExpireSeconds", 60L);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenMinutes", 30L);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("stateless 모드에서는 사용자 조회 없이 토큰 claims 로 인증")
+    public void statelessAuthenticationTest() {
+        //given
+        ReflectionTestUtils.setField(jwtUtil, "statelessPrincipal", true);
+        String token = jwtUtil.createToken(user).substring("Bearer ".length());
+
+        //when
+        Claims claims = jwtUtil.parseClaims(token);
+        Authentication authentication = jwtUtil.createAuthentication(claims);
+
+        //then
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        assertEquals(1L, userDetails.getUserId());
+        assertEquals("nickname", userDetails.getNickname());
+        assertEquals("12345", userDetails.getUsername());
+        assertEquals(UserRoleEnum.Authority.USER, authentication.getAuthorities().iterator().next().getAuthority());
+        assertEquals(1L, userDetails.getUserReference().getId());
+
+        //verify
+        verify(userDetailsService, times(0)).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("stateless 모드에서 엔티티가 필요하면 그때 조회")
+    public void lazyUserLoadTest() {
+        //given
+        ReflectionTestUtils.setField(jwtUtil, "statelessPrincipal", true);
+        Claims claims = jwtUtil.parseClaims(jwtUtil.createToken(user).substring("Bearer ".length()));
+        doReturn(new UserDetailsImpl(user, "12345")).when(userDetailsService).loadUserByUsername("12345");
+        UserDetailsImpl userDetails = (UserDetailsImpl) jwtUtil.createAuthentication(claims).getPrincipal();
+
+        //when
+        User loaded = userDetails.getUser();
+        userDetails.getUser();
+
+        //then
+        assertEquals("profile", loaded.getProfile());
+        verify(userDetailsService, times(1)).loadUserByUsername("12345");
+    }
+
+    @Test
+    @DisplayName("기본 모드에서는 사용자를 조회해서 인증")
+    public void defaultAuthenticationTest() {
+        //given
+        Claims claims = jwtUtil.parseClaims(jwtUtil.createToken(user).substring("Bearer ".length()));
+        doReturn(new UserDetailsImpl(user, "12345")).when(userDetailsService).loadUserByUsername("12345");
+
+        //when
+        Authentication authentication = jwtUtil.createAuthentication(claims);
+
+        //then
+        assertSame(user, ((UserDetailsImpl) authentication.getPrincipal()).getUser());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰")
+    public void invalidTokenTest() {
+        //given
+        JwtUtil otherJwtUtil = new JwtUtil(userDetailsService, tokenRevocationList);
+        byte[] otherKey = new byte[32];
+        otherKey[0] = 1;
+        ReflectionTestUtils.setField(otherJwtUtil, "secretKey", Base64.getEncoder().encodeToString(otherKey));
+        ReflectionTestUtils.setField(otherJwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(otherJwtUtil, "claimsCacheExpireSeconds", 60L);
+        ReflectionTestUtils.setField(otherJwtUtil, "accessTokenMinutes", 30L);
+        otherJwtUtil.init();
+        String token = otherJwtUtil.createToken(user).substring("Bearer ".length());
+
+        //when & then
+        assertNull(jwtUtil.parseClaims(token));
+        assertFalse(jwtUtil.validateToken("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 서명이 맞아도 거부")
+    public void revokedTokenTest() {
+        //given
+        String token = jwtUtil.createToken(user).substring("Bearer ".length());
+        doReturn(true).when(tokenRevocationList).isRevoked(anyString());
+
+        //when & then
+        assertNull(jwtUtil.parseClaims(token));
+    }
+}
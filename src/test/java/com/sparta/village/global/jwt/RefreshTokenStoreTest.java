@@ -0,0 +1,87 @@
+package com.sparta.village.global.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+    private static final List<String> KEYS = List.of("auth:refresh:token");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    public void init() {
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, 14);
+    }
+
+    @Test
+    @DisplayName("발급한 refresh token 을 kakaoId 와 함께 보관 기간 동안 저장")
+    public void issueTest() {
+        //given
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+
+        //when
+        String token = refreshTokenStore.issue(12345L);
+
+        //then
+        assertNotNull(token);
+        assertNotEquals(token, refreshTokenStore.issue(12345L));
+
+        //verify
+        verify(valueOperations, times(1)).set("auth:refresh:" + token, "12345", Duration.ofDays(14));
+    }
+
+    @Test
+    @DisplayName("refresh token 은 한 번만 사용 가능")
+    public void consumeOnceTest() {
+        //given
+        doReturn("12345").doReturn(null).when(redisTemplate).execute(any(RedisScript.class), eq(KEYS));
+
+        //when
+        Long first = refreshTokenStore.consume("token");
+        Long second = refreshTokenStore.consume("token");
+
+        //then
+        assertEquals(12345L, first);
+        assertNull(second);
+
+        //verify
+        //조회와 삭제를 스크립트 하나로 처리해서 동시에 같은 토큰을 써도 한 요청만 성공
+        ArgumentCaptor<RedisScript<String>> script = ArgumentCaptor.forClass(RedisScript.class);
+        verify(redisTemplate, times(2)).execute(script.capture(), eq(KEYS));
+        assertTrue(script.getValue().getScriptAsString().contains("GET"));
+        assertTrue(script.getValue().getScriptAsString().contains("DEL"));
+        verify(redisTemplate, times(0)).opsForValue();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 refresh token 삭제")
+    public void revokeTest() {
+        //when
+        refreshTokenStore.revoke("token");
+
+        //verify
+        verify(redisTemplate, times(1)).delete("auth:refresh:token");
+    }
+}
@@ -0,0 +1,185 @@
+package com.sparta.village.global.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationList = new TokenRevocationList(redisTemplate, listenerContainer, meterRegistry, 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 없는 토큰은 Redis 를 조회하지 않음")
+    public void filterMissTest() {
+        //when
+        boolean revoked = tokenRevocationList.isRevoked("jti");
+
+        //then
+        assertFalse(revoked);
+        assertEquals(0, meterRegistry.get("auth.revocation.lookups").counter().count());
+
+        //verify
+        verify(redisTemplate, times(0)).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각까지 Redis 에 남기고 다른 노드에 알린 뒤 Redis 로 확인해서 거부")
+    public void revokeTest() {
+        //given
+        doReturn(valueOperations).when(redisTemplate).opsForValue();
+        doReturn(true).when(redisTemplate).hasKey("auth:revoked:jti");
+
+        //when
+        tokenRevocationList.revoke("jti", new Date(System.currentTimeMillis() + 60_000));
+        boolean revoked = tokenRevocationList.isRevoked("jti");
+
+        //then
+        assertTrue(revoked);
+        assertEquals(1, meterRegistry.get("auth.revocation.rejected").counter().count());
+
+        //verify
+        verify(valueOperations, times(1)).set(eq("auth:revoked:jti"), eq("1"), any(Duration.class));
+        verify(redisTemplate, times(1)).convertAndSend("auth:revoked", "jti");
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 넣지 않음")
+    public void revokeExpiredTest() {
+        //when
+        tokenRevocationList.revoke("jti", new Date(System.currentTimeMillis() - 1000));
+
+        //then
+        assertFalse(tokenRevocationList.isRevoked("jti"));
+
+        //verify
+        verify(redisTemplate, times(0)).opsForValue();
+        verify(redisTemplate, times(0)).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 걸렸지만 Redis 에 없으면(오탐, 만료) 통과")
+    public void falsePositiveTest() {
+        //given
+        tokenRevocationList.onMessage(message("jti"), null);
+        doReturn(false).when(redisTemplate).hasKey("auth:revoked:jti");
+
+        //when
+        boolean revoked = tokenRevocationList.isRevoked("jti");
+
+        //then
+        assertFalse(revoked);
+        assertEquals(1, meterRegistry.get("auth.revocation.lookups").counter().count());
+        assertEquals(0, meterRegistry.get("auth.revocation.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 걸렸는데 Redis 를 확인할 수 없으면 거부")
+    public void redisDownTest() {
+        //given
+        tokenRevocationList.onMessage(message("jti"), null);
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).hasKey("auth:revoked:jti");
+
+        //when
+        boolean revoked = tokenRevocationList.isRevoked("jti");
+
+        //then
+        assertTrue(revoked);
+        assertEquals(1, meterRegistry.get("auth.revocation.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("재구성하면 Redis 에 남은 항목만 새 필터에 들어감")
+    public void rebuildTest() {
+        //given
+        tokenRevocationList.onMessage(message("expired"), null);
+        Cursor<String> cursor = mock(Cursor.class);
+        doReturn(true, false).when(cursor).hasNext();
+        doReturn("auth:revoked:alive").when(cursor).next();
+        doReturn(cursor).when(redisTemplate).scan(any(ScanOptions.class));
+        doReturn(true).when(redisTemplate).hasKey("auth:revoked:alive");
+
+        //when
+        tokenRevocationList.rebuild();
+
+        //then
+        assertTrue(tokenRevocationList.isRevoked("alive"));
+        assertFalse(tokenRevocationList.isRevoked("expired"));
+
+        //verify
+        verify(redisTemplate, times(0)).hasKey("auth:revoked:expired");
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 폐기 알림도 새 필터에 남음")
+    public void revokeDuringRebuildTest() {
+        //given
+        Cursor<String> cursor = mock(Cursor.class);
+        //scan 이 끝나기 전에 다른 노드의 폐기 알림이 도착
+        doAnswer(invocation -> {
+            tokenRevocationList.onMessage(message("late"), null);
+            return false;
+        }).when(cursor).hasNext();
+        doReturn(cursor).when(redisTemplate).scan(any(ScanOptions.class));
+        doReturn(true).when(redisTemplate).hasKey("auth:revoked:late");
+
+        //when
+        tokenRevocationList.rebuild();
+
+        //then
+        assertTrue(tokenRevocationList.isRevoked("late"));
+    }
+
+    @Test
+    @DisplayName("재구성에 실패하면 기존 필터를 그대로 사용")
+    public void rebuildFailureTest() {
+        //given
+        tokenRevocationList.onMessage(message("jti"), null);
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).scan(any(ScanOptions.class));
+        doReturn(true).when(redisTemplate).hasKey("auth:revoked:jti");
+
+        //when
+        tokenRevocationList.rebuild();
+
+        //then
+        assertTrue(tokenRevocationList.isRevoked("jti"));
+    }
+
+    private DefaultMessage message(String jti) {
+        return new DefaultMessage("auth:revoked".getBytes(StandardCharsets.UTF_8), jti.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.village.global.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetChunkJobTest {
+    private SimpleMeterRegistry meterRegistry;
+    private KeysetChunkJob job;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new KeysetChunkJob("test-job", meterRegistry, "test.processed", "processed", "test.runs", "runs");
+    }
+
+    @Test
+    @DisplayName("마지막 id 이후부터 다음 청크를 조회하고, 청크가 덜 차면 종료")
+    public void processInChunksTest() {
+        //given
+        Map<Long, List<Long>> chunks = Map.of(0L, List.of(1L, 2L), 2L, List.of(5L, 6L), 6L, List.of(9L));
+        List<Long> requested = new ArrayList<>();
+
+        //when
+        int total = job.process(2, lastId -> {
+            requested.add(lastId);
+            return chunks.get(lastId);
+        }, List::size);
+        job.recordRun();
+
+        //then
+        assertEquals(5, total);
+        assertEquals(List.of(0L, 2L, 6L), requested);
+        assertEquals(5.0, meterRegistry.get("test.processed").counter().count());
+        assertEquals(1.0, meterRegistry.get("test.runs").counter().count());
+    }
+
+    @Test
+    @DisplayName("청크가 꽉 차면 빈 결과가 나올 때까지 조회")
+    public void processUntilEmptyTest() {
+        //given
+        Map<Long, List<Long>> chunks = Map.of(0L, List.of(1L, 2L), 2L, List.of());
+
+        //when
+        int total = job.process(2, chunks::get, List::size);
+
+        //then
+        assertEquals(2, total);
+    }
+
+    @Test
+    @DisplayName("처리 중 실패하면 그때까지 처리한 건수만 남기고 예외를 다시 던짐")
+    public void processFailureTest() {
+        //given
+        Map<Long, List<Long>> chunks = Map.of(0L, List.of(1L, 2L), 2L, List.of(3L, 4L));
+
+        //when
+        assertThrows(IllegalStateException.class, () -> job.process(2, chunks::get, ids -> {
+            if (ids.contains(3L)) {
+                throw new IllegalStateException("db down");
+            }
+            return ids.size();
+        }));
+
+        //then
+        assertEquals(2.0, meterRegistry.get("test.processed").counter().count());
+        assertEquals(0.0, meterRegistry.get("test.runs").counter().count());
+    }
+}
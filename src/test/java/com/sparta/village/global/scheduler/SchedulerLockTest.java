@@ -0,0 +1,99 @@
+package com.sparta.village.global.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockTest {
+    private static final List<String> ACQUIRE_KEYS = List.of("scheduler:lock:job", "scheduler:fence:job");
+    private static final List<String> RELEASE_KEYS = List.of("scheduler:lock:job");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SchedulerLock schedulerLock;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        schedulerLock = new SchedulerLock(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 작업을 실행하고 같은 fencing token 으로 해제")
+    public void runWithLockTest() {
+        //given
+        doReturn(7L).when(redisTemplate).execute(any(RedisScript.class), eq(ACQUIRE_KEYS), anyString(), eq("60000"));
+        AtomicInteger runs = new AtomicInteger();
+
+        //when
+        boolean result = schedulerLock.run("job", Duration.ofMinutes(1), Duration.ZERO, runs::incrementAndGet);
+
+        //then
+        assertTrue(result);
+        assertEquals(1, runs.get());
+        assertEquals(1, meterRegistry.get("scheduler.job.duration").tag("job", "job").timer().count());
+        assertTrue(meterRegistry.get("scheduler.job.last.success").tag("job", "job").gauge().value() > 0);
+
+        //verify
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(RELEASE_KEYS), owner.capture(), eq("0"));
+        assertTrue(owner.getValue().endsWith(":7"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 가지고 있으면 건너뜀")
+    public void skipWhenLockedTest() {
+        //given
+        doReturn(0L).when(redisTemplate).execute(any(RedisScript.class), eq(ACQUIRE_KEYS), anyString(), anyString());
+        AtomicInteger runs = new AtomicInteger();
+
+        //when
+        boolean result = schedulerLock.run("job", Duration.ofMinutes(1), Duration.ZERO, runs::incrementAndGet);
+
+        //then
+        assertFalse(result);
+        assertEquals(0, runs.get());
+        assertEquals(1.0, meterRegistry.get("scheduler.job.skipped").tag("reason", "locked").counter().count());
+        verify(redisTemplate, times(0)).execute(any(RedisScript.class), eq(RELEASE_KEYS), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 락을 해제하고 실패 수만 올림")
+    public void failedJobTest() {
+        //given
+        doReturn(3L).when(redisTemplate).execute(any(RedisScript.class), eq(ACQUIRE_KEYS), anyString(), anyString());
+
+        //when
+        boolean result = schedulerLock.run("job", Duration.ofMinutes(1), Duration.ZERO, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        //then
+        assertTrue(result);
+        assertEquals(1.0, meterRegistry.get("scheduler.job.failed").tag("job", "job").counter().count());
+        assertTrue(meterRegistry.find("scheduler.job.last.success").gauges().isEmpty());
+
+        //verify
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(RELEASE_KEYS), anyString(), anyString());
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.village.global.security;
+
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.entity.UserRoleEnum;
+import com.sparta.village.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+    @Mock
+    private UserRepository userRepository;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    public void init() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, 100, 60);
+    }
+
+    @Test
+    @DisplayName("같은 kakaoId 는 캐시에서 읽고 매번 복사본을 돌려줌")
+    public void cachedPrincipalTest() {
+        //given
+        doReturn(Optional.of(new User(1L, 12345L, "nickname", "profile", UserRoleEnum.USER, false))).when(userRepository).findByKakaoId(12345L);
+
+        //when
+        User first = ((UserDetailsImpl) userDetailsService.loadUserByUsername("12345")).getUser();
+        first.updateNickname("changed");
+        User second = ((UserDetailsImpl) userDetailsService.loadUserByUsername("12345")).getUser();
+
+        //then
+        assertNotSame(first, second);
+        assertEquals("nickname", second.getNickname());
+        assertEquals(1L, second.getId());
+
+        //verify
+        verify(userRepository, times(1)).findByKakaoId(12345L);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 DB 에서 다시 읽음")
+    public void evictTest() {
+        //given
+        doReturn(Optional.of(new User(1L, 12345L, "nickname", "profile", UserRoleEnum.USER, false)))
+                .doReturn(Optional.of(new User(1L, 12345L, "changed", "profile", UserRoleEnum.USER, false)))
+                .when(userRepository).findByKakaoId(12345L);
+        userDetailsService.loadUserByUsername("12345");
+
+        //when
+        userDetailsService.evict(12345L);
+        User user = ((UserDetailsImpl) userDetailsService.loadUserByUsername("12345")).getUser();
+
+        //then
+        assertEquals("changed", user.getNickname());
+        verify(userRepository, times(2)).findByKakaoId(12345L);
+    }
+
+    @Test
+    @DisplayName("없는 사용자")
+    public void userNotFoundTest() {
+        //given
+        doReturn(Optional.empty()).when(userRepository).findByKakaoId(12345L);
+
+        //when & then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("12345"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.village.reservation;
+
+import com.sparta.village.domain.reservation.repository.ReservationRepository;
+import com.sparta.village.domain.reservation.scheduler.ReservationExpiryScheduler;
+import com.sparta.village.domain.reservation.service.ReservationService;
+import com.sparta.village.global.scheduler.SchedulerLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpirySchedulerTest {
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReservationService reservationService;
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationExpiryScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ReservationExpiryScheduler(reservationRepository, reservationService, schedulerLock, meterRegistry);
+        //락은 항상 잡힌 것으로 보고 작업을 바로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).when(schedulerLock).run(anyString(), any(Duration.class), any(Duration.class), any(Runnable.class));
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(scheduler, "maxAgeDays", 7L);
+    }
+
+    @Test
+    @DisplayName("만료 대상 예약을 청크 단위로 처리")
+    public void expireInChunksTest() {
+        //given
+        doReturn(List.of(1L, 2L)).when(reservationRepository).findExpirableWaitingIds(eq(0L), any(LocalDate.class), any(LocalDateTime.class), any(Pageable.class));
+        doReturn(List.of(5L)).when(reservationRepository).findExpirableWaitingIds(eq(2L), any(LocalDate.class), any(LocalDateTime.class), any(Pageable.class));
+        doReturn(2).when(reservationService).expireWaitingReservations(List.of(1L, 2L));
+        doReturn(1).when(reservationService).expireWaitingReservations(List.of(5L));
+
+        //when
+        scheduler.expireWaitingReservations();
+
+        //then
+        assertEquals(3.0, meterRegistry.get("reservation.expiry.expired").counter().count());
+
+        //verify
+        verify(reservationService, times(1)).expireWaitingReservations(List.of(1L, 2L));
+        verify(reservationService, times(1)).expireWaitingReservations(List.of(5L));
+        verify(reservationRepository, times(2)).findExpirableWaitingIds(anyLong(), any(LocalDate.class), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("만료 대상이 없을 때")
+    public void nothingToExpireTest() {
+        //given
+        doReturn(List.of()).when(reservationRepository).findExpirableWaitingIds(eq(0L), any(LocalDate.class), any(LocalDateTime.class), any(Pageable.class));
+
+        //when
+        scheduler.expireWaitingReservations();
+
+        //then
+        assertEquals(0.0, meterRegistry.get("reservation.expiry.expired").counter().count());
+        verify(reservationService, times(0)).expireWaitingReservations(any());
+    }
+}
@@ -0,0 +1,72 @@
+package com.sparta.village.reservation;
+
+import com.sparta.village.domain.product.entity.Product;
+import com.sparta.village.domain.reservation.dto.ReservationRequestDto;
+import com.sparta.village.domain.reservation.dto.ReservationResponseDto;
+import com.sparta.village.domain.reservation.entity.Reservation;
+import com.sparta.village.domain.reservation.service.ReservationService;
+import com.sparta.village.domain.user.entity.User;
+import com.sparta.village.domain.user.entity.UserRoleEnum;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class ReservationListQueryTest {
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("예약 목록 조회 쿼리 수는 예약 수와 상관없이 1번")
+    public void reservationListStatementCountTest() {
+        User owner = saveUser("owner");
+        Product product = Product.builder().title("title").description("description").price(1000).location("대전광역시").zzimCount(0).user(owner).build();
+        em.persist(product);
+
+        long fewStatements = countStatements(product, 2);
+        long manyStatements = countStatements(product, 30);
+
+        assertEquals(1, fewStatements);
+        assertEquals(fewStatements, manyStatements);
+    }
+
+    private long countStatements(Product product, int reservationCount) {
+        for (int i = 0; i < reservationCount; i++) {
+            User renter = saveUser("renter" + System.nanoTime());
+            LocalDate startDate = LocalDate.of(2023, 1, 1).plusDays(i * 3L);
+            em.persist(new Reservation(product, renter, new ReservationRequestDto(startDate, startDate.plusDays(1))));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ReservationResponseDto> reservationList = reservationService.getReservationList(null, product.getId());
+        long statementCount = statistics.getPrepareStatementCount();
+        assertTrue(reservationList.size() >= reservationCount);
+        return statementCount;
+    }
+
+    private User saveUser(String nickname) {
+        User user = User.builder().kakaoId(System.nanoTime()).nickname(nickname).profile("profile1").role(UserRoleEnum.USER).build();
+        em.persist(user);
+        return user;
+    }
+}
@@ -6,7 +6,9 @@ import com.sparta.village.domain.reservation.dto.ReservationRequestDto;
 import com.sparta.village.domain.reservation.dto.StatusRequestDto;
 import com.sparta.village.domain.reservation.dto.UserLevelDto;
 import com.sparta.village.domain.reservation.entity.Reservation;
+import com.sparta.village.domain.reservation.dto.ReservationEventDto;
 import com.sparta.village.domain.reservation.repository.ReservationRepository;
+import com.sparta.village.domain.reservation.service.ReservationEventPublisher;
 import com.sparta.village.domain.reservation.service.ReservationService;
 import com.sparta.village.domain.user.entity.User;
 import com.sparta.village.domain.user.entity.UserRoleEnum;
@@ -44,6 +46,8 @@ class ReservationServiceTest {
     @Mock
     private UserService userService;
     @Mock
+    private ReservationEventPublisher reservationEventPublisher;
+    @Mock
     private User user;
 
     @Mock
@@ -72,6 +76,7 @@ class ReservationServiceTest {
         verify(productRepository, times(1)).findById(productId);
         verify(reservationRepository, times(1)).checkOverlapDateByProduct(product, reservationRequestDto.getStartDate(), reservationRequestDto.getEndDate());
         verify(reservationRepository, times(1)).saveAndFlush(any(Reservation.class));
+        verify(reservationEventPublisher, times(1)).publish(eq(user), any(ReservationEventDto.class));
     }
     private ReservationRequestDto reservationRequest() {
         return new ReservationRequestDto(LocalDate.of(2023,5,10), LocalDate.of(2023,5,13));
@@ -98,6 +103,7 @@ class ReservationServiceTest {
         verify(productRepository, times(1)).findById(productId);
         verify(reservationRepository, times(1)).checkOverlapDateByProduct(product, reservationRequestDto.getStartDate(), reservationRequestDto.getEndDate());
         verify(reservationRepository, times(0)).saveAndFlush(any(Reservation.class));
+        verify(reservationEventPublisher, times(0)).publish(any(), any(ReservationEventDto.class));
     }
 
     @Test